@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.nio.charset.CharsetDecoder;
+
+/**
+ * A {@link CharsetDecoder} borrowed from a pool for the exclusive use of one thread.
+ * <p>
+ * {@link CharsetDecoder} is not thread-safe, so pooled instances are handed out as leases that must be
+ * closed when decoding is done, preferably with try-with-resources. The decoder is reset when the lease
+ * is closed. It must not be used after closing the lease, and its error actions must not be changed
+ * because it is reused by later borrowers.
+ * </p>
+ *
+ * <pre>{@code
+ * try (CharsetDecoderLease lease = provider.borrowDecoderOrNull(lcid, CodePageType.ANSI)) {
+ *     return lease.decoder().decode(bytes);
+ * }
+ * }</pre>
+ *
+ * @see LcidCharsetProvider#borrowDecoderOrNull(int, CodePageType)
+ */
+public interface CharsetDecoderLease extends AutoCloseable {
+
+    /**
+     * Gets the borrowed decoder.
+     *
+     * @return the decoder
+     * @throws IllegalStateException if the lease is closed
+     */
+    CharsetDecoder decoder();
+
+    /**
+     * Returns the decoder to its pool. Closing a lease more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.nio.charset.CharsetEncoder;
+
+/**
+ * A {@link CharsetEncoder} borrowed from a pool for the exclusive use of one thread.
+ * <p>
+ * The lease works like a {@link CharsetDecoderLease}: it must be closed when encoding is done, which
+ * resets the encoder, and the error actions of the encoder must not be changed.
+ * </p>
+ *
+ * @see LcidCharsetProvider#borrowEncoderOrNull(int, CodePageType)
+ */
+public interface CharsetEncoderLease extends AutoCloseable {
+
+    /**
+     * Gets the borrowed encoder.
+     *
+     * @return the encoder
+     * @throws IllegalStateException if the lease is closed
+     */
+    CharsetEncoder encoder();
+
+    /**
+     * Returns the encoder to its pool. Closing a lease more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
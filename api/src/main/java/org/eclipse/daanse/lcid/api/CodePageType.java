@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+/**
+ * The kinds of default Windows code pages of an LCID.
+ */
+public enum CodePageType {
+
+    /** The ANSI code page used by Windows applications for non-Unicode text, such as 1252. */
+    ANSI,
+
+    /** The OEM code page used by the console and legacy DOS data, such as 850. */
+    OEM
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.nio.charset.Charset;
+import java.util.Optional;
+
+/**
+ * Service providing the default Windows code pages of an LCID and their charsets.
+ * <p>
+ * Data from legacy Windows sources is encoded in the ANSI or OEM code page of the locale that wrote it.
+ * Implementations look up the {@link Charset} of each code page once and keep pools of decoders and
+ * encoders, so decoding such data needs no charset lookup or codec allocation per call. Decoders and
+ * encoders replace malformed and unmappable input, like {@link String#String(byte[], Charset)} does.
+ * </p>
+ */
+public interface LcidCharsetProvider {
+
+    /**
+     * Gets a default Windows code page of an LCID.
+     *
+     * @param lcid the LCID value
+     * @param type the kind of code page
+     * @return the code page number, or 0 if the LCID cannot be converted or its language is supported
+     *         by Windows only through Unicode
+     */
+    int codePage(int lcid, CodePageType type);
+
+    /**
+     * Gets the charset of a default Windows code page of an LCID.
+     *
+     * @param lcid the LCID value
+     * @param type the kind of code page
+     * @return the shared charset, or null if the LCID has no such code page or the Java runtime does not
+     *         support it
+     */
+    Charset charsetOrNull(int lcid, CodePageType type);
+
+    /**
+     * Gets the charset of a default Windows code page of an LCID.
+     *
+     * @param lcid the LCID value
+     * @param type the kind of code page
+     * @return an Optional containing the shared charset, or empty if the LCID has no such code page or
+     *         the Java runtime does not support it
+     */
+    default Optional<Charset> charset(int lcid, CodePageType type) {
+        return Optional.ofNullable(charsetOrNull(lcid, type));
+    }
+
+    /**
+     * Borrows a decoder for a default Windows code page of an LCID.
+     *
+     * @param lcid the LCID value
+     * @param type the kind of code page
+     * @return a lease that must be closed, or null if there is no charset for the code page
+     */
+    CharsetDecoderLease borrowDecoderOrNull(int lcid, CodePageType type);
+
+    /**
+     * Borrows an encoder for a default Windows code page of an LCID.
+     *
+     * @param lcid the LCID value
+     * @param type the kind of code page
+     * @return a lease that must be closed, or null if there is no charset for the code page
+     */
+    CharsetEncoderLease borrowEncoderOrNull(int lcid, CodePageType type);
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Service providing string comparators that sort in the collation order of an LCID.
+ * <p>
+ * The comparators take the sort identifier of the LCID into account and order strings like the
+ * {@link java.text.CollationKey}s of the {@link java.text.Collator} of the LCID, but are meant for
+ * sorting large sets of strings: implementations may cache collation keys and compare plain ASCII strings without
+ * the collator. The comparators are shared and safe for concurrent use.
+ * </p>
+ */
+public interface LcidComparatorFactory {
+
+    /**
+     * Gets the comparator of an LCID.
+     *
+     * @param lcid the LCID value
+     * @return the shared comparator, or null if the LCID cannot be converted to a Locale
+     */
+    Comparator<String> comparatorOrNull(int lcid);
+
+    /**
+     * Gets the comparator of an LCID.
+     *
+     * @param lcid the LCID value
+     * @return an Optional containing the shared comparator, or empty if the LCID cannot be converted to
+     *         a Locale
+     */
+    default Optional<Comparator<String>> comparator(int lcid) {
+        return Optional.ofNullable(comparatorOrNull(lcid));
+    }
+
+}
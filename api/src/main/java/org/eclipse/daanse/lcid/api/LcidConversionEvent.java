@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.util.Locale;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a single LCID to Locale conversion of an {@link LcidService} implementation.
+ * <p>
+ * All implementations emit the same event type and tell themselves apart by the {@code service} field.
+ * The event is disabled by default. Enable it in a recording settings file or with
+ * {@code jfr configure} using its name {@value #NAME}. While it is disabled the instrumentation is
+ * reduced to an allocation the JIT eliminates and a single branch.
+ * </p>
+ */
+@Name(LcidConversionEvent.NAME)
+@Label("LCID Conversion")
+@Description("Conversion of an LCID to a Java Locale")
+@Category({ "Eclipse Daanse", "LCID" })
+@Enabled(false)
+@StackTrace(false)
+public final class LcidConversionEvent extends Event {
+
+    /** The name of the event type. */
+    public static final String NAME = "org.eclipse.daanse.lcid.LcidConversion";
+
+    /** The LCID was resolved and its Locale was returned. */
+    public static final String HIT = "HIT";
+
+    /** The LCID was not resolved and no Locale was returned. */
+    public static final String MISS = "MISS";
+
+    /**
+     * The LCID was not resolved and a fallback Locale was returned, either the one of the caller or one
+     * configured in the service.
+     */
+    public static final String FALLBACK = "FALLBACK";
+
+    @Label("Service")
+    @Description("The LcidService implementation that converted the LCID")
+    Class<?> service;
+
+    @Label("LCID")
+    @Description("The LCID that was converted")
+    int lcid;
+
+    @Label("Language Tag")
+    @Description("IETF BCP 47 language tag of the returned Locale, null if none was returned")
+    String languageTag;
+
+    @Label("Outcome")
+    @Description("HIT, MISS or FALLBACK")
+    String outcome;
+
+    /**
+     * Ends the event and commits it if it is enabled. The language tag is only computed when the event is
+     * actually recorded.
+     *
+     * @param service the implementation that converted the LCID
+     * @param lcid    the LCID that was converted
+     * @param locale  the returned Locale, may be null
+     * @param outcome {@link #HIT}, {@link #MISS} or {@link #FALLBACK}
+     */
+    public void commit(Class<?> service, int lcid, Locale locale, String outcome) {
+        if (shouldCommit()) {
+            this.service = service;
+            this.lcid = lcid;
+            this.languageTag = locale != null ? locale.toLanguageTag() : null;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+
+/**
+ * Service providing reusable formatters for an LCID.
+ * <p>
+ * Formatters are expensive to build. Implementations cache the immutable {@link DateTimeFormatter}s
+ * and pool the not thread-safe {@link java.text.NumberFormat}s per LCID and pattern, with bounded
+ * memory, so formatting a cell does not construct a formatter.
+ * </p>
+ */
+public interface LcidFormatterProvider {
+
+    /**
+     * Gets the formatter of a pattern for an LCID.
+     *
+     * @param lcid    the LCID value
+     * @param pattern the pattern as described in {@link DateTimeFormatter}
+     * @return the shared, immutable formatter, or null if the LCID cannot be converted to a Locale
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    DateTimeFormatter dateTimeFormatterOrNull(int lcid, String pattern);
+
+    /**
+     * Gets the localized date-time formatter of an LCID.
+     *
+     * @param lcid      the LCID value
+     * @param dateStyle the date style, or null for a time only formatter
+     * @param timeStyle the time style, or null for a date only formatter
+     * @return the shared, immutable formatter, or null if the LCID cannot be converted to a Locale
+     * @throws IllegalArgumentException if both styles are null
+     * @see DateTimeFormatter#ofLocalizedDateTime(FormatStyle, FormatStyle)
+     */
+    DateTimeFormatter localizedDateTimeFormatterOrNull(int lcid, FormatStyle dateStyle, FormatStyle timeStyle);
+
+    /**
+     * Borrows a number format of a pattern for an LCID.
+     *
+     * @param lcid    the LCID value
+     * @param pattern the pattern as described in {@link java.text.DecimalFormat}, or null for the
+     *                general number format of the Locale
+     * @return a lease of the format that must be closed, or null if the LCID cannot be converted to a
+     *         Locale
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    NumberFormatLease borrowNumberFormatOrNull(int lcid, String pattern);
+
+}
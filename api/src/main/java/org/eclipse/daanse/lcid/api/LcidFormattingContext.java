@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.util.Optional;
+
+/**
+ * Service providing the formatting symbols of an LCID.
+ * <p>
+ * Implementations build the symbols of each language lazily and share them between all callers, so
+ * sessions with the same LCID do not rebuild them per request.
+ * </p>
+ */
+public interface LcidFormattingContext {
+
+    /**
+     * Gets the formatting symbols of an LCID.
+     *
+     * @param lcid the LCID value
+     * @return the shared formatting symbols, or null if the LCID cannot be converted to a Locale
+     */
+    LcidFormattingSymbols formattingSymbolsOrNull(int lcid);
+
+    /**
+     * Gets the formatting symbols of an LCID.
+     *
+     * @param lcid the LCID value
+     * @return an Optional containing the shared formatting symbols, or empty if the LCID cannot be
+     *         converted to a Locale
+     */
+    default Optional<LcidFormattingSymbols> formattingSymbols(int lcid) {
+        return Optional.ofNullable(formattingSymbolsOrNull(lcid));
+    }
+
+}
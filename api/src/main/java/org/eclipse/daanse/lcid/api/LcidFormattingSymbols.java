@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable bundle of the formatting symbols of a Locale.
+ * <p>
+ * Building {@link DecimalFormatSymbols} and {@link DateFormatSymbols} goes through the locale service
+ * providers and is expensive, so a bundle is built once and shared, see {@link LcidFormattingContext}.
+ * The JDK symbol classes are mutable; their getters return a copy, which is cheap compared to building
+ * them. The most frequently needed symbols are also available directly.
+ * </p>
+ */
+public final class LcidFormattingSymbols {
+
+    private final Locale locale;
+    private final DecimalFormatSymbols decimalFormatSymbols;
+    private final DateFormatSymbols dateFormatSymbols;
+    private final Optional<Currency> currency;
+
+    private LcidFormattingSymbols(Locale locale) {
+        this.locale = locale;
+        this.decimalFormatSymbols = DecimalFormatSymbols.getInstance(locale);
+        this.dateFormatSymbols = DateFormatSymbols.getInstance(locale);
+        this.currency = currencyOf(locale);
+    }
+
+    /**
+     * Builds the formatting symbols of a Locale.
+     *
+     * @param locale the Locale
+     * @return the formatting symbols
+     * @throws NullPointerException if {@code locale} is null
+     */
+    public static LcidFormattingSymbols of(Locale locale) {
+        return new LcidFormattingSymbols(Objects.requireNonNull(locale, "locale"));
+    }
+
+    private static Optional<Currency> currencyOf(Locale locale) {
+        if (locale.getCountry().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(Currency.getInstance(locale));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the Locale the symbols were built for.
+     *
+     * @return the Locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Gets a copy of the decimal format symbols.
+     *
+     * @return a new DecimalFormatSymbols instance that may be modified by the caller
+     */
+    public DecimalFormatSymbols getDecimalFormatSymbols() {
+        return (DecimalFormatSymbols) decimalFormatSymbols.clone();
+    }
+
+    /**
+     * Gets a copy of the date format symbols.
+     *
+     * @return a new DateFormatSymbols instance that may be modified by the caller
+     */
+    public DateFormatSymbols getDateFormatSymbols() {
+        return (DateFormatSymbols) dateFormatSymbols.clone();
+    }
+
+    /**
+     * Gets the currency of the country of the Locale.
+     *
+     * @return an Optional containing the currency, or empty if the Locale has no country or the country
+     *         has no currency
+     */
+    public Optional<Currency> getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Gets the decimal separator.
+     *
+     * @return the decimal separator
+     * @see DecimalFormatSymbols#getDecimalSeparator()
+     */
+    public char getDecimalSeparator() {
+        return decimalFormatSymbols.getDecimalSeparator();
+    }
+
+    /**
+     * Gets the grouping separator.
+     *
+     * @return the grouping separator
+     * @see DecimalFormatSymbols#getGroupingSeparator()
+     */
+    public char getGroupingSeparator() {
+        return decimalFormatSymbols.getGroupingSeparator();
+    }
+
+    /**
+     * Gets the minus sign.
+     *
+     * @return the minus sign
+     * @see DecimalFormatSymbols#getMinusSign()
+     */
+    public char getMinusSign() {
+        return decimalFormatSymbols.getMinusSign();
+    }
+
+    /**
+     * Gets the digit used for zero.
+     *
+     * @return the zero digit
+     * @see DecimalFormatSymbols#getZeroDigit()
+     */
+    public char getZeroDigit() {
+        return decimalFormatSymbols.getZeroDigit();
+    }
+
+    /**
+     * Gets the percent sign.
+     *
+     * @return the percent sign
+     * @see DecimalFormatSymbols#getPercent()
+     */
+    public char getPercent() {
+        return decimalFormatSymbols.getPercent();
+    }
+
+    /**
+     * Gets the currency symbol of the Locale.
+     *
+     * @return the currency symbol
+     * @see DecimalFormatSymbols#getCurrencySymbol()
+     */
+    public String getCurrencySymbol() {
+        return decimalFormatSymbols.getCurrencySymbol();
+    }
+
+    @Override
+    public String toString() {
+        return "LcidFormattingSymbols[" + locale.toLanguageTag() + "]";
+    }
+
+}
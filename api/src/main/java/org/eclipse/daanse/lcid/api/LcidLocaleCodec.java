@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Compact binary codec for Locales in cache keys and messages.
+ * <p>
+ * A Locale is written as one unsigned LEB128 varint token:
+ * </p>
+ * <ul>
+ * <li>{@code 0} for a null Locale,</li>
+ * <li>{@code 1} as escape for a Locale without LCID, followed by the varint length and the ASCII bytes
+ * of its language tag,</li>
+ * <li>the LCID plus {@code 2} for every other Locale, which takes at most 2 bytes for LCIDs below
+ * {@code 0x3FFE}, 3 bytes for LCIDs with sort identifier and never more than 4 bytes.</li>
+ * </ul>
+ * <p>
+ * A Locale is written as its LCID only if the {@link LcidService} converts that LCID back to an equal
+ * Locale, so reading returns an equal Locale. Both sides must use services that agree on the LCIDs.
+ * Writing and reading a Locale that has an LCID create no objects beyond what the service needs.
+ * </p>
+ */
+public final class LcidLocaleCodec {
+
+    private static final int NULL_TOKEN = 0;
+
+    private static final int ESCAPE_TOKEN = 1;
+
+    private static final int LCID_TOKEN_OFFSET = 2;
+
+    /** Largest LCID that is written as token, all higher bits of an LCID are reserved. */
+    private static final int MAX_LCID = 0x00FFFFFF;
+
+    private static final int MAX_VARINT_BYTES = 4;
+
+    private final LcidService service;
+
+    /**
+     * Creates a codec.
+     *
+     * @param service the service converting between Locales and LCIDs
+     */
+    public LcidLocaleCodec(LcidService service) {
+        this.service = Objects.requireNonNull(service, "service");
+    }
+
+    /**
+     * Gets the number of bytes {@link #write(Locale, ByteBuffer)} writes for a Locale.
+     *
+     * @param locale the Locale, may be null
+     * @return the number of bytes
+     */
+    public int encodedSize(Locale locale) {
+        int token = tokenOf(locale);
+        if (token != ESCAPE_TOKEN) {
+            return varintSize(token);
+        }
+        int length = locale.toLanguageTag().length();
+        return varintSize(ESCAPE_TOKEN) + varintSize(length) + length;
+    }
+
+    /**
+     * Writes a Locale at the position of a buffer and advances the position past it.
+     *
+     * @param locale the Locale, may be null
+     * @param buffer the buffer
+     * @throws BufferOverflowException if the buffer has not enough space left, the position is unchanged
+     */
+    public void write(Locale locale, ByteBuffer buffer) {
+        int token = tokenOf(locale);
+        if (token != ESCAPE_TOKEN) {
+            if (buffer.remaining() < varintSize(token)) {
+                throw new BufferOverflowException();
+            }
+            putVarint(buffer, token);
+            return;
+        }
+        String tag = locale.toLanguageTag();
+        int length = tag.length();
+        if (buffer.remaining() < varintSize(ESCAPE_TOKEN) + varintSize(length) + length) {
+            throw new BufferOverflowException();
+        }
+        putVarint(buffer, ESCAPE_TOKEN);
+        putVarint(buffer, length);
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) tag.charAt(i));
+        }
+    }
+
+    /**
+     * Reads a Locale at the position of a buffer and advances the position past it.
+     *
+     * @param buffer the buffer
+     * @return the Locale, or null if a null Locale was written or the LCID is unknown to the service
+     * @throws BufferUnderflowException if the buffer ends within the Locale, the position is unchanged
+     * @throws IllegalArgumentException if the bytes are no Locale written by this codec, the position is
+     *                                  unchanged
+     */
+    public Locale read(ByteBuffer buffer) {
+        int start = buffer.position();
+        long token = getVarint(buffer, start);
+        int index = start + (int) (token >>> Integer.SIZE);
+        int value = (int) token;
+        if (value == NULL_TOKEN) {
+            buffer.position(index);
+            return null;
+        }
+        if (value != ESCAPE_TOKEN) {
+            if (value - LCID_TOKEN_OFFSET > MAX_LCID) {
+                throw new IllegalArgumentException("Malformed locale at position " + start + ": LCID "
+                        + Integer.toHexString(value - LCID_TOKEN_OFFSET) + " has reserved bits set");
+            }
+            buffer.position(index);
+            return service.lcidToLocaleOrNull(value - LCID_TOKEN_OFFSET);
+        }
+        long lengthToken = getVarint(buffer, index);
+        index += (int) (lengthToken >>> Integer.SIZE);
+        int length = (int) lengthToken;
+        if (length > buffer.limit() - index) {
+            throw new BufferUnderflowException();
+        }
+        byte[] tag = new byte[length];
+        buffer.get(index, tag);
+        buffer.position(index + length);
+        return Locale.forLanguageTag(new String(tag, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Gets the token of a Locale, {@link #ESCAPE_TOKEN} if it has to be written as language tag.
+     */
+    private int tokenOf(Locale locale) {
+        if (locale == null) {
+            return NULL_TOKEN;
+        }
+        int lcid = service.localeToLcid(locale, -1);
+        if (lcid < 0 || lcid > MAX_LCID || !locale.equals(service.lcidToLocaleOrNull(lcid))) {
+            return ESCAPE_TOKEN;
+        }
+        return lcid + LCID_TOKEN_OFFSET;
+    }
+
+    private static int varintSize(int value) {
+        return value < 1 << 7 ? 1 : value < 1 << 14 ? 2 : value < 1 << 21 ? 3 : 4;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while (value >= 0x80) {
+            buffer.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads a varint at an absolute index without moving the position.
+     *
+     * @return the number of bytes read in the high and the value in the low 32 bits
+     */
+    private static long getVarint(ByteBuffer buffer, int index) {
+        int value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            if (index + i >= buffer.limit()) {
+                throw new BufferUnderflowException();
+            }
+            byte b = buffer.get(index + i);
+            value |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return (long) (i + 1) << Integer.SIZE | value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed locale at position " + index + ": varint longer than "
+                + MAX_VARINT_BYTES + " bytes");
+    }
+
+}
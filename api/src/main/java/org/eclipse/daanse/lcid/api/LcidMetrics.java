@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.util.Map;
+
+/**
+ * Runtime counters of the LCID to Locale conversions performed by an {@link LcidService}.
+ * <p>
+ * The counters are cumulative since the service was created. They are meant to be scraped
+ * periodically, for example by a dashboard, without enabling debug logging.
+ * </p>
+ */
+public interface LcidMetrics {
+
+    /**
+     * Gets the number of conversion calls, which is the sum of hits, misses and null inputs.
+     *
+     * @return the total number of conversions
+     */
+    long getTotalCalls();
+
+    /**
+     * Gets the number of conversions that resolved to a Locale.
+     *
+     * @return the number of hits
+     */
+    long getHits();
+
+    /**
+     * Gets the number of conversions of an LCID that could not be resolved to a Locale.
+     *
+     * @return the number of misses
+     */
+    long getMisses();
+
+    /**
+     * Gets the number of conversions called without an LCID value.
+     *
+     * @return the number of null or empty inputs
+     */
+    long getNullInputs();
+
+    /**
+     * Gets the number of hits per language identifier.
+     *
+     * @return an immutable snapshot mapping each language identifier that had at least one hit to its
+     *         hit count
+     */
+    Map<Integer, Long> getUsageByLanguageId();
+
+}
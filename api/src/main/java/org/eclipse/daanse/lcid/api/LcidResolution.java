@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Result of resolving an LCID with fallback.
+ * <p>
+ * Resolution always produces a Locale. {@link #step()} reports which step of the fallback chain
+ * matched and {@link #lcid()} the LCID whose Locale was taken.
+ * </p>
+ *
+ * @param lcid   the LCID that matched, without sort bits
+ * @param locale the resolved Locale, never null
+ * @param step   the step of the fallback chain that matched
+ * @see LcidService#resolveLcid(int)
+ */
+public record LcidResolution(int lcid, Locale locale, Step step) {
+
+    /**
+     * The LCID of the invariant locale, {@code LOCALE_INVARIANT}.
+     */
+    public static final int INVARIANT_LCID = 0x007F;
+
+    /**
+     * The resolution of an LCID for which no step but the last one matched.
+     */
+    public static final LcidResolution INVARIANT = new LcidResolution(INVARIANT_LCID, Locale.ROOT, Step.INVARIANT);
+
+    /**
+     * Steps of the fallback chain, in the order they are tried.
+     */
+    public enum Step {
+
+        /**
+         * The LCID is known as given.
+         */
+        EXACT,
+
+        /**
+         * The language identifier is known, but the sort ID, sort version or reserved bits are not valid
+         * for it and were ignored.
+         */
+        SORT_STRIPPED,
+
+        /**
+         * The language identifier is unknown, the neutral primary language in its low 10 bits is known.
+         */
+        NEUTRAL,
+
+        /**
+         * Neither the language identifier nor its primary language is known, a script-neutral parent of
+         * the primary language such as {@code 0x7C04} is.
+         */
+        SCRIPT_PARENT,
+
+        /**
+         * Nothing matched; the invariant locale is used.
+         */
+        INVARIANT
+    }
+
+    /**
+     * Creates a resolution.
+     *
+     * @throws NullPointerException if {@code locale} or {@code step} is null
+     */
+    public LcidResolution {
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(step, "step");
+    }
+
+    /**
+     * Checks whether the LCID was resolved without fallback.
+     *
+     * @return true if {@link #step()} is {@link Step#EXACT}
+     */
+    public boolean isExact() {
+        return step == Step.EXACT;
+    }
+
+}
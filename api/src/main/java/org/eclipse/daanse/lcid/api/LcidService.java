@@ -13,14 +13,20 @@
  */
 package org.eclipse.daanse.lcid.api;
 
+import java.nio.IntBuffer;
+import java.text.Collator;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service interface for converting Windows LCID values to Java Locale objects.
  * <p>
  * This service provides functionality to convert Microsoft Windows Locale Identifiers (LCID) to
- * their corresponding Java Locale representations.
+ * their corresponding Java Locale representations, and optionally back.
  * </p>
  */
 public interface LcidService {
@@ -33,4 +39,163 @@ public interface LcidService {
      */
     Optional<Locale> lcidToLocale(Optional<Integer> value);
 
+    /**
+     * Converts a primitive LCID value to a Java Locale.
+     * <p>
+     * This variant avoids boxing the LCID and wrapping the result. The default implementation delegates
+     * to {@link #lcidToLocale(Optional)}; implementations are encouraged to override it with an
+     * allocation-free lookup.
+     * </p>
+     *
+     * @param lcid the LCID value to convert
+     * @return the corresponding Locale, or null if conversion is not possible
+     */
+    default Locale lcidToLocaleOrNull(int lcid) {
+        return lcidToLocale(Optional.of(lcid)).orElse(null);
+    }
+
+    /**
+     * Converts a primitive LCID value to a Java Locale, returning a fallback if conversion is not
+     * possible.
+     *
+     * @param lcid     the LCID value to convert
+     * @param fallback the Locale to return if conversion is not possible, may be null
+     * @return the corresponding Locale, or {@code fallback} if conversion is not possible
+     */
+    default Locale lcidToLocale(int lcid, Locale fallback) {
+        Locale locale = lcidToLocaleOrNull(lcid);
+        return locale != null ? locale : fallback;
+    }
+
+    /**
+     * Resolves an LCID to a Java Locale, falling back step by step instead of failing.
+     * <p>
+     * Implementations try, in order, the LCID as given, the LCID without its sort bits, the neutral
+     * primary language, a script-neutral parent and finally the invariant locale, and report which of
+     * these {@link LcidResolution.Step steps} matched. The default implementation only knows the first
+     * and the last step: it delegates to {@link #lcidToLocaleOrNull(int)} and returns
+     * {@link LcidResolution#INVARIANT} if that fails. Like all implementations it reports the matched
+     * LCID without sort and reserved bits.
+     * </p>
+     *
+     * @param lcid the LCID value to resolve
+     * @return the resolution, never null
+     */
+    default LcidResolution resolveLcid(int lcid) {
+        Locale locale = lcidToLocaleOrNull(lcid);
+        // the resolution holds the language identifier in the low 16 bits only
+        return locale != null ? new LcidResolution(lcid & 0xFFFF, locale, LcidResolution.Step.EXACT)
+                : LcidResolution.INVARIANT;
+    }
+
+    /**
+     * Converts a column of LCID values to Java Locales.
+     * <p>
+     * Each element of {@code out} receives the result of {@link #lcidToLocaleOrNull(int)} for the LCID
+     * at the same index, or null if conversion is not possible.
+     * </p>
+     *
+     * @param lcids the LCID values to convert
+     * @param out   the array receiving the Locales, at least as long as {@code lcids}
+     * @throws IndexOutOfBoundsException if {@code out} is shorter than {@code lcids}
+     */
+    default void lcidsToLocales(int[] lcids, Locale[] out) {
+        lcidsToLocales(lcids, 0, out, 0, lcids.length);
+    }
+
+    /**
+     * Converts a range of a column of LCID values to Java Locales.
+     *
+     * @param lcids       the LCID values to convert
+     * @param lcidsOffset the index of the first LCID to convert
+     * @param out         the array receiving the Locales
+     * @param outOffset   the index in {@code out} receiving the first Locale
+     * @param length      the number of LCIDs to convert
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of its array
+     * @see #lcidsToLocales(int[], Locale[])
+     */
+    default void lcidsToLocales(int[] lcids, int lcidsOffset, Locale[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = lcidToLocaleOrNull(lcids[lcidsOffset + i]);
+        }
+    }
+
+    /**
+     * Converts the remaining LCID values of a buffer to Java Locales.
+     * <p>
+     * The buffer position is advanced past all converted values.
+     * </p>
+     *
+     * @param lcids     the buffer holding the LCID values to convert
+     * @param out       the array receiving the Locales
+     * @param outOffset the index in {@code out} receiving the first Locale
+     * @throws IndexOutOfBoundsException if {@code out} cannot hold all remaining values
+     * @see #lcidsToLocales(int[], Locale[])
+     */
+    default void lcidsToLocales(IntBuffer lcids, Locale[] out, int outOffset) {
+        int length = lcids.remaining();
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = lcidToLocaleOrNull(lcids.get());
+        }
+    }
+
+    /**
+     * Converts a stream of LCID values to a stream of Java Locales.
+     * <p>
+     * The resulting stream contains null for every LCID that cannot be converted, so that it stays
+     * aligned with the input.
+     * </p>
+     *
+     * @param lcids the LCID values to convert
+     * @return a stream of the corresponding Locales
+     */
+    default Stream<Locale> lcidsToLocales(IntStream lcids) {
+        return lcids.mapToObj(this::lcidToLocaleOrNull);
+    }
+
+    /**
+     * Gets a Collator for the locale and sort order identified by an LCID value.
+     * <p>
+     * The returned collator is owned by the caller, who may change its strength or decomposition without
+     * affecting other callers. Implementations that cache collators must therefore return a copy, for
+     * example a clone of the cached instance. The default implementation creates a new collator for the
+     * converted locale on every call.
+     * </p>
+     *
+     * @param lcid the LCID value, including its sort identifier
+     * @return a Collator owned by the caller, or null if conversion is not possible
+     */
+    default Collator lcidToCollator(int lcid) {
+        Locale locale = lcidToLocaleOrNull(lcid);
+        return locale != null ? Collator.getInstance(locale) : null;
+    }
+
+    /**
+     * Converts a Java Locale to its LCID value.
+     * <p>
+     * The default implementation supports no reverse conversion and always returns an empty result.
+     * </p>
+     *
+     * @param locale the Locale to convert, may be null
+     * @return an OptionalInt containing the corresponding LCID, or empty if conversion is not possible
+     */
+    default OptionalInt localeToLcid(Locale locale) {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Converts a Java Locale to its LCID value, returning a fallback if conversion is not possible.
+     *
+     * @param locale   the Locale to convert, may be null
+     * @param fallback the value to return if conversion is not possible
+     * @return the corresponding LCID, or {@code fallback} if conversion is not possible
+     */
+    default int localeToLcid(Locale locale, int fallback) {
+        OptionalInt lcid = localeToLcid(locale);
+        return lcid.isPresent() ? lcid.getAsInt() : fallback;
+    }
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.text.NumberFormat;
+
+/**
+ * A {@link NumberFormat} borrowed from a pool for the exclusive use of one thread.
+ * <p>
+ * {@link NumberFormat} is not thread-safe, so pooled instances are handed out as leases that must be
+ * closed when formatting is done, preferably with try-with-resources. The format must not be used
+ * after closing the lease, and its settings must not be changed because it is reused by later
+ * borrowers.
+ * </p>
+ *
+ * <pre>{@code
+ * try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(lcid, "#,##0.00")) {
+ *     return lease.numberFormat().format(value);
+ * }
+ * }</pre>
+ *
+ * @see LcidFormatterProvider#borrowNumberFormatOrNull(int, String)
+ */
+public interface NumberFormatLease extends AutoCloseable {
+
+    /**
+     * Gets the borrowed format.
+     *
+     * @return the format
+     * @throws IllegalStateException if the lease is closed
+     */
+    NumberFormat numberFormat();
+
+    /**
+     * Returns the format to its pool. Closing a lease more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
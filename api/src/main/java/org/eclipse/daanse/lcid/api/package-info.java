@@ -12,6 +12,6 @@
 *   Stefan Bischof (bipolis.org) - initial
 */
 @org.osgi.annotation.bundle.Export
-@org.osgi.annotation.versioning.Version("0.0.1")
+@org.osgi.annotation.versioning.Version("0.2.0")
 
 package org.eclipse.daanse.lcid.api;
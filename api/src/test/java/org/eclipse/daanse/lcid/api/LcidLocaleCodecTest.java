@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.api;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidLocaleCodecTest {
+
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+    private static final Locale DE_DE = Locale.forLanguageTag("de-DE");
+    private static final Locale DE_DE_PHONEBOOK = Locale.forLanguageTag("de-DE-u-co-phonebk");
+
+    private static final class TestLcidService implements LcidService {
+        @Override
+        public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+            return Optional.ofNullable(value == null || value.isEmpty() ? null : switch (value.get()) {
+            case 0x0409 -> EN_US;
+            case 0x0407 -> DE_DE;
+            case 0x00010407 -> DE_DE_PHONEBOOK;
+            default -> null;
+            });
+        }
+
+        @Override
+        public int localeToLcid(Locale locale, int fallback) {
+            if (EN_US.equals(locale)) {
+                return 0x0409;
+            }
+            if (DE_DE.equals(locale)) {
+                return 0x0407;
+            }
+            if (DE_DE_PHONEBOOK.equals(locale)) {
+                return 0x00010407;
+            }
+            // maps to an LCID whose Locale differs
+            if (Locale.GERMAN.equals(locale)) {
+                return 0x0407;
+            }
+            return fallback;
+        }
+    }
+
+    private final LcidLocaleCodec codec = new LcidLocaleCodec(new TestLcidService());
+
+    @Test
+    void testKnownLocales() {
+        assertRoundTrip(EN_US, 2);
+        assertRoundTrip(DE_DE, 2);
+        assertRoundTrip(DE_DE_PHONEBOOK, 3);
+    }
+
+    @Test
+    void testNullLocale() {
+        assertRoundTrip(null, 1);
+    }
+
+    @Test
+    void testEscapedLocales() {
+        Locale unknown = Locale.forLanguageTag("tlh-Latn-x-klingon");
+        assertRoundTrip(unknown, 2 + unknown.toLanguageTag().length());
+        // the LCID of German converts to German (Germany), so German is written as language tag
+        assertRoundTrip(Locale.GERMAN, 4);
+        assertRoundTrip(Locale.ROOT, 2 + "und".length());
+    }
+
+    @Test
+    void testSequence() {
+        Locale[] locales = { EN_US, null, Locale.JAPAN, DE_DE_PHONEBOOK, Locale.GERMAN };
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (Locale locale : locales) {
+            codec.write(locale, buffer);
+        }
+        buffer.flip();
+        for (Locale locale : locales) {
+            assertEquals(locale, codec.read(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testUnknownLcidReadsAsNull() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0x81, 0x7F });
+        assertNull(codec.read(buffer));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    void testOverflowLeavesPositionUnchanged() {
+        ByteBuffer buffer = ByteBuffer.allocate(3);
+        buffer.put((byte) 0);
+        assertThrows(BufferOverflowException.class, () -> codec.write(Locale.JAPAN, buffer));
+        assertEquals(1, buffer.position());
+        codec.write(EN_US, buffer);
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    void testUnderflowLeavesPositionUnchanged() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        codec.write(Locale.JAPAN, buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+        assertThrows(BufferUnderflowException.class, () -> codec.read(buffer));
+        assertEquals(0, buffer.position());
+        buffer.limit(1);
+        assertThrows(BufferUnderflowException.class, () -> codec.read(buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testMalformed() {
+        ByteBuffer tooLong = ByteBuffer.wrap(new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0 });
+        assertThrows(IllegalArgumentException.class, () -> codec.read(tooLong));
+        assertEquals(0, tooLong.position());
+        ByteBuffer reserved = ByteBuffer.wrap(new byte[] { (byte) 0x82, (byte) 0x80, (byte) 0x80, 0x08 });
+        assertThrows(IllegalArgumentException.class, () -> codec.read(reserved));
+        assertEquals(0, reserved.position());
+    }
+
+    private void assertRoundTrip(Locale locale, int size) {
+        assertEquals(size, codec.encodedSize(locale));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size + 2);
+        buffer.position(1);
+        codec.write(locale, buffer);
+        assertEquals(1 + size, buffer.position());
+        buffer.flip().position(1);
+        assertEquals(locale, codec.read(buffer));
+        assertEquals(1 + size, buffer.position());
+    }
+
+}
@@ -13,8 +13,10 @@
  */
 package org.eclipse.daanse.lcid.api;
 
+import java.nio.IntBuffer;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +82,51 @@ class LcidServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testLcidToLocaleOrNullDefault() {
+        assertEquals(Locale.forLanguageTag("en-US"), service.lcidToLocaleOrNull(0x0409));
+        assertNull(service.lcidToLocaleOrNull(0x9999));
+    }
+
+    @Test
+    void testLcidToLocaleWithFallbackDefault() {
+        Locale fallback = Locale.ROOT;
+
+        assertEquals(Locale.forLanguageTag("de-DE"), service.lcidToLocale(0x0407, fallback));
+        assertSame(fallback, service.lcidToLocale(0x9999, fallback));
+        assertNull(service.lcidToLocale(0x9999, null));
+    }
+
+    @Test
+    void testLocaleToLcidDefault() {
+        assertEquals(OptionalInt.empty(), service.localeToLcid(Locale.forLanguageTag("en-US")));
+        assertEquals(-1, service.localeToLcid(Locale.forLanguageTag("en-US"), -1));
+    }
+
+    @Test
+    void testLcidsToLocalesDefault() {
+        int[] lcids = { 0x0409, 0x9999, 0x0407 };
+        Locale[] out = new Locale[3];
+
+        service.lcidsToLocales(lcids, out);
+
+        assertArrayEquals(new Locale[] { Locale.forLanguageTag("en-US"), null, Locale.forLanguageTag("de-DE") },
+                out);
+        assertThrows(IndexOutOfBoundsException.class, () -> service.lcidsToLocales(lcids, new Locale[2]));
+    }
+
+    @Test
+    void testLcidsToLocalesFromBufferDefault() {
+        IntBuffer lcids = IntBuffer.wrap(new int[] { 0x0407, 0x0409 });
+        Locale[] out = new Locale[3];
+
+        service.lcidsToLocales(lcids, out, 1);
+
+        assertArrayEquals(new Locale[] { null, Locale.forLanguageTag("de-DE"), Locale.forLanguageTag("en-US") },
+                out);
+        assertFalse(lcids.hasRemaining());
+    }
+
     @Test
     void testMethodSignature() {
         assertDoesNotThrow(() -> {
@@ -88,4 +135,35 @@ class LcidServiceTest {
             service.lcidToLocale(null);
         });
     }
+    @Test
+    void testDefaultResolveLcid() {
+        assertEquals(new LcidResolution(0x0409, Locale.forLanguageTag("en-US"), LcidResolution.Step.EXACT),
+                service.resolveLcid(0x0409));
+        assertSame(LcidResolution.INVARIANT, service.resolveLcid(0x9999));
+    }
+
+    @Test
+    void testDefaultResolveLcidStripsSortBits() {
+        LcidService phoneBook = new LcidService() {
+            @Override
+            public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+                return value != null && value.equals(Optional.of(0x10407))
+                        ? Optional.of(Locale.forLanguageTag("de-DE-u-co-phonebk"))
+                        : Optional.empty();
+            }
+        };
+
+        LcidResolution resolution = phoneBook.resolveLcid(0x10407);
+
+        assertEquals(0x0407, resolution.lcid());
+        assertEquals(Locale.forLanguageTag("de-DE-u-co-phonebk"), resolution.locale());
+        assertEquals(LcidResolution.Step.EXACT, resolution.step());
+    }
+
+    @Test
+    void testLcidResolutionRequiresLocaleAndStep() {
+        assertThrows(NullPointerException.class, () -> new LcidResolution(0x0409, null, LcidResolution.Step.EXACT));
+        assertThrows(NullPointerException.class, () -> new LcidResolution(0x0409, Locale.ROOT, null));
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the packed {@code LanguageIDTable} source from the language identifier data file.
+ * <p>
+ * Runs as a single-file source program during the {@code generate-sources} phase:
+ * {@code java LanguageIDTableGenerator.java <data file> <output source root>}.
+ * </p>
+ * <p>
+ * The table stores every column as one string constant. Language identifiers are one char per entry,
+ * the names are concatenated with a second string of end offsets, so loading the class costs a few
+ * constant pool entries instead of hundreds of bytecode instructions.
+ * </p>
+ */
+public class LanguageIDTableGenerator {
+
+    private static final String PACKAGE = "org.eclipse.daanse.lcid.basic";
+    private static final String CLASS_NAME = "LanguageIDTable";
+
+    private record Row(int languageId, String msId, String languageTag) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LanguageIDTableGenerator <data file> <output source root>");
+        }
+        Path dataFile = Path.of(args[0]);
+        Path sourceRoot = Path.of(args[1]);
+
+        List<Row> rows = read(dataFile);
+        Path target = sourceRoot.resolve(PACKAGE.replace('.', '/')).resolve(CLASS_NAME + ".java");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, generate(rows), StandardCharsets.UTF_8);
+    }
+
+    private static List<Row> read(Path dataFile) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        boolean header = true;
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(dataFile, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (header) {
+                header = false;
+                continue;
+            }
+            String[] columns = line.split(",", -1);
+            if (columns.length != 3) {
+                throw new IllegalArgumentException(dataFile + ":" + lineNumber + ": expected 3 columns");
+            }
+            int languageId = Integer.parseInt(columns[0].trim(), 16);
+            if (languageId < 0 || languageId > 0xFFFF) {
+                throw new IllegalArgumentException(dataFile + ":" + lineNumber + ": language id out of range");
+            }
+            rows.add(new Row(languageId, columns[1].trim(), columns[2].trim()));
+        }
+        return rows;
+    }
+
+    private static String generate(List<Row> rows) {
+        StringBuilder languageIds = new StringBuilder();
+        StringBuilder msIds = new StringBuilder();
+        StringBuilder msIdEnds = new StringBuilder();
+        StringBuilder languageTags = new StringBuilder();
+        StringBuilder languageTagEnds = new StringBuilder();
+        for (Row row : rows) {
+            languageIds.append((char) row.languageId());
+            msIds.append(row.msId());
+            msIdEnds.append((char) msIds.length());
+            languageTags.append(row.languageTag());
+            languageTagEnds.append((char) languageTags.length());
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("/*\n");
+        source.append(" * Generated by LanguageIDTableGenerator from src/main/lcid/language-ids.csv. Do not edit.\n");
+        source.append(" */\n");
+        source.append("package ").append(PACKAGE).append(";\n\n");
+        source.append("/**\n");
+        source.append(" * Packed data of the {@link LanguageID} constants, in declaration order.\n");
+        source.append(" */\n");
+        source.append("final class ").append(CLASS_NAME).append(" {\n\n");
+        source.append("    static final int SIZE = ").append(rows.size()).append(";\n\n");
+        constant(source, "LANGUAGE_IDS", languageIds);
+        constant(source, "MS_IDS", msIds);
+        constant(source, "MS_ID_ENDS", msIdEnds);
+        constant(source, "LANGUAGE_TAGS", languageTags);
+        constant(source, "LANGUAGE_TAG_ENDS", languageTagEnds);
+        source.append("    private ").append(CLASS_NAME).append("() {\n    }\n\n");
+        source.append("    static short languageId(int index) {\n");
+        source.append("        return (short) LANGUAGE_IDS.charAt(index);\n");
+        source.append("    }\n\n");
+        source.append("    static String msId(int index) {\n");
+        source.append("        return slice(MS_IDS, MS_ID_ENDS, index);\n");
+        source.append("    }\n\n");
+        source.append("    static String languageTag(int index) {\n");
+        source.append("        return slice(LANGUAGE_TAGS, LANGUAGE_TAG_ENDS, index);\n");
+        source.append("    }\n\n");
+        source.append("    private static String slice(String values, String ends, int index) {\n");
+        source.append("        int start = index == 0 ? 0 : ends.charAt(index - 1);\n");
+        source.append("        int end = ends.charAt(index);\n");
+        source.append("        return start == end ? null : values.substring(start, end);\n");
+        source.append("    }\n\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static void constant(StringBuilder source, String name, CharSequence value) {
+        if (value.length() > 0xFFFF) {
+            throw new IllegalArgumentException(name + " exceeds the offset range");
+        }
+        source.append("    static final String ").append(name).append(" = \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                // Unicode escapes are translated before lexing, so these need octal escapes
+                source.append(String.format("\\%03o", (int) c));
+            } else if (c < 0x7F) {
+                source.append(c);
+            } else {
+                source.append(String.format("\\u%04X", (int) c));
+            }
+        }
+        source.append("\";\n\n");
+    }
+
+}
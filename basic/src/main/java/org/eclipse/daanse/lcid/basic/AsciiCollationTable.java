@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.CollationElementIterator;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.RuleBasedCollator;
+
+/**
+ * Precomputed collation weights of the ASCII characters of one {@link RuleBasedCollator}.
+ * <p>
+ * A character is usable if it is printable, the collator maps it to exactly one collation element and
+ * it does not start a contraction. The primary, secondary and tertiary weight of each usable character are taken from its
+ * {@link CollationKey}, where ignorable characters may have no weight on a level. Strings made of
+ * usable characters are compared the way their collation keys compare: level by level, each level by
+ * the sequence of present weights, and a sequence that is a prefix of the other sorts first. All other
+ * strings are left to the collator.
+ * </p>
+ * <p>
+ * The table is built once per collator. As a safety net it is checked against the collation keys of
+ * the collator for pairs of usable characters, which also catches secondary weights that the collator
+ * compares backwards, and is not used at all if any result differs.
+ * </p>
+ */
+final class AsciiCollationTable {
+
+    /** Result of {@link #compare(String, String)} for strings the table cannot compare. */
+    static final int FALLBACK = Integer.MIN_VALUE;
+
+    private static final int SIZE = 128;
+
+    private static final char FIRST_PRINTABLE = 0x20;
+
+    private static final char LAST_PRINTABLE = 0x7E;
+
+    private static final int LEVELS = 3;
+
+    private final boolean[] usable;
+
+    /** The weights of each character per level, 0 if the character has no weight on that level. */
+    private final char[][] weights;
+
+    private AsciiCollationTable(boolean[] usable, char[][] weights) {
+        this.usable = usable;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds the table of a collator.
+     *
+     * @param collator the collator
+     * @return the table, or null if the collator is not rule based, uses identical strength or does not
+     *         agree with the table
+     */
+    static AsciiCollationTable build(Collator collator) {
+        if (!(collator instanceof RuleBasedCollator ruleBased) || collator.getStrength() == Collator.IDENTICAL) {
+            return null;
+        }
+        boolean[] usable = new boolean[SIZE];
+        int[] elements = new int[SIZE];
+        char[][] weights = new char[LEVELS][SIZE];
+        for (char c = FIRST_PRINTABLE; c <= LAST_PRINTABLE; c++) {
+            String s = String.valueOf(c);
+            CollationElementIterator iterator = ruleBased.getCollationElementIterator(s);
+            int element = iterator.next();
+            if (element != CollationElementIterator.NULLORDER
+                    && iterator.next() == CollationElementIterator.NULLORDER) {
+                elements[c] = element;
+                usable[c] = readWeights(collator.getCollationKey(s), c, weights);
+            }
+        }
+        excludeContractionStarts(ruleBased, usable, elements);
+        AsciiCollationTable table = new AsciiCollationTable(usable, weights);
+        return table.agreesWith(collator) ? table : null;
+    }
+
+    /**
+     * Compares two strings if both consist of usable characters.
+     *
+     * @param a the first string
+     * @param b the second string
+     * @return a negative, zero or positive value like {@link CollationKey#compareTo(CollationKey)}, or
+     *         {@link #FALLBACK} if the collator must compare the strings
+     */
+    int compare(String a, String b) {
+        // a usable character may still contract with a following combining mark, so both strings must be
+        // checked completely before the first difference decides
+        if (!isUsable(a) || !isUsable(b)) {
+            return FALLBACK;
+        }
+        int result = compareLevel(a, b, weights[0]);
+        for (int level = 1; result == 0 && level < LEVELS; level++) {
+            result = compareLevel(a, b, weights[level]);
+        }
+        return result;
+    }
+
+    private boolean isUsable(String s) {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= SIZE || !usable[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareLevel(String a, String b, char[] levelWeights) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        int i = 0;
+        int j = 0;
+        while (true) {
+            char weightA = 0;
+            while (i < lengthA && weightA == 0) {
+                weightA = levelWeights[a.charAt(i++)];
+            }
+            char weightB = 0;
+            while (j < lengthB && weightB == 0) {
+                weightB = levelWeights[b.charAt(j++)];
+            }
+            if (weightA != weightB) {
+                // a string without further weights has 0 and sorts first
+                return weightA < weightB ? -1 : 1;
+            }
+            if (weightA == 0) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Reads the weights of a single character from its collation key, which holds the weights of each
+     * level followed by a 0 separator.
+     */
+    private static boolean readWeights(CollationKey key, char c, char[][] weights) {
+        byte[] bytes = key.toByteArray();
+        int level = 0;
+        int count = 0;
+        for (int i = 0; i + 1 < bytes.length; i += 2) {
+            char weight = (char) ((bytes[i] & 0xFF) << 8 | bytes[i + 1] & 0xFF);
+            if (weight == 0) {
+                level++;
+                count = 0;
+            } else if (level >= LEVELS || count++ > 0) {
+                return false;
+            } else {
+                weights[level][c] = weight;
+            }
+        }
+        return true;
+    }
+
+    private static void excludeContractionStarts(RuleBasedCollator collator, boolean[] usable, int[] elements) {
+        boolean[] single = usable.clone();
+        for (char c = FIRST_PRINTABLE; c <= LAST_PRINTABLE; c++) {
+            if (!single[c]) {
+                continue;
+            }
+            for (char d = FIRST_PRINTABLE; d <= LAST_PRINTABLE; d++) {
+                if (single[d] && !isPlainPair(collator, c, d, elements)) {
+                    usable[c] = false;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean isPlainPair(RuleBasedCollator collator, char c, char d, int[] elements) {
+        CollationElementIterator iterator = collator.getCollationElementIterator(new String(new char[] { c, d }));
+        return iterator.next() == elements[c] && iterator.next() == elements[d]
+                && iterator.next() == CollationElementIterator.NULLORDER;
+    }
+
+    private boolean agreesWith(Collator collator) {
+        CollationKey[] keys = new CollationKey[SIZE];
+        for (char c = FIRST_PRINTABLE; c <= LAST_PRINTABLE; c++) {
+            keys[c] = collator.getCollationKey(String.valueOf(c));
+        }
+        for (char c = FIRST_PRINTABLE; c <= LAST_PRINTABLE; c++) {
+            if (!usable[c]) {
+                continue;
+            }
+            for (char d = c; d <= LAST_PRINTABLE; d++) {
+                if (!usable[d]) {
+                    continue;
+                }
+                String a = String.valueOf(c);
+                String b = String.valueOf(d);
+                String ab = a + b;
+                String ba = b + a;
+                CollationKey abKey = collator.getCollationKey(ab);
+                if (!agrees(a, keys[c], b, keys[d]) || !agrees(ab, abKey, ba, collator.getCollationKey(ba))
+                        || !agrees(ab, abKey, a, keys[c])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean agrees(String a, CollationKey keyA, String b, CollationKey keyB) {
+        return Integer.signum(compare(a, b)) == Integer.signum(keyA.compareTo(keyB));
+    }
+
+}
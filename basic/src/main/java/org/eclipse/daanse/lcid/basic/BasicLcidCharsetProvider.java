@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.daanse.lcid.api.CharsetDecoderLease;
+import org.eclipse.daanse.lcid.api.CharsetEncoderLease;
+import org.eclipse.daanse.lcid.api.CodePageType;
+import org.eclipse.daanse.lcid.api.LcidCharsetProvider;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of the {@link LcidCharsetProvider} interface.
+ * <p>
+ * LCIDs are decoded like in {@link BasicLcidService}, and the code pages are the defaults of the
+ * {@link LanguageID}. All languages sharing a code page share one {@link CharsetCodecPool}, which keeps
+ * up to {@value #DEFAULT_POOL_CAPACITY} idle decoders and encoders. The pool of each language and kind
+ * of code page is cached in a slot indexed by the ordinal of the language identifier, so after the first
+ * call a lookup does not allocate.
+ * </p>
+ */
+@Component(service = LcidCharsetProvider.class, scope = ServiceScope.SINGLETON)
+public class BasicLcidCharsetProvider implements LcidCharsetProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(BasicLcidCharsetProvider.class);
+
+    /** Default number of idle decoders and encoders kept per code page. */
+    static final int DEFAULT_POOL_CAPACITY = 8;
+
+    private static final int TYPES = CodePageType.values().length;
+
+    /** Marks code pages without a charset in the Java runtime. */
+    private static final CharsetCodecPool UNSUPPORTED = new CharsetCodecPool(null, 1);
+
+    private final Map<Integer, CharsetCodecPool> byCodePage = new ConcurrentHashMap<>();
+
+    private final AtomicReferenceArray<CharsetCodecPool> byLanguage = new AtomicReferenceArray<>(
+            LanguageID.values().length * TYPES);
+
+    private final int poolCapacity;
+
+    /**
+     * Creates a provider with the default pool capacity.
+     */
+    public BasicLcidCharsetProvider() {
+        this(DEFAULT_POOL_CAPACITY);
+    }
+
+    BasicLcidCharsetProvider(int poolCapacity) {
+        if (poolCapacity < 1) {
+            throw new IllegalArgumentException("poolCapacity must be at least 1: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int codePage(int lcid, CodePageType type) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        if (languageID == null) {
+            return WindowsCodePages.NONE;
+        }
+        return codePage(languageID, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Charset charsetOrNull(int lcid, CodePageType type) {
+        CharsetCodecPool pool = poolOrNull(lcid, type);
+        return pool != null ? pool.charset() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharsetDecoderLease borrowDecoderOrNull(int lcid, CodePageType type) {
+        CharsetCodecPool pool = poolOrNull(lcid, type);
+        return pool != null ? pool.borrowDecoder() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharsetEncoderLease borrowEncoderOrNull(int lcid, CodePageType type) {
+        CharsetCodecPool pool = poolOrNull(lcid, type);
+        return pool != null ? pool.borrowEncoder() : null;
+    }
+
+    private CharsetCodecPool poolOrNull(int lcid, CodePageType type) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        if (languageID == null) {
+            return null;
+        }
+        int index = languageID.ordinal() * TYPES + type.ordinal();
+        CharsetCodecPool pool = byLanguage.get(index);
+        if (pool == null) {
+            int codePage = codePage(languageID, type);
+            pool = codePage == WindowsCodePages.NONE ? UNSUPPORTED
+                    : byCodePage.computeIfAbsent(codePage, this::createPool);
+            byLanguage.compareAndSet(index, null, pool);
+        }
+        return pool != UNSUPPORTED ? pool : null;
+    }
+
+    private CharsetCodecPool createPool(int codePage) {
+        String name = charsetName(codePage);
+        try {
+            return new CharsetCodecPool(Charset.forName(name), poolCapacity);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            logger.debug("Code page {} is not supported by the Java runtime as '{}'", codePage, name);
+            return UNSUPPORTED;
+        }
+    }
+
+    private static int codePage(LanguageID languageID, CodePageType type) {
+        return switch (type) {
+        case ANSI -> languageID.getAnsiCodePage();
+        case OEM -> languageID.getOemCodePage();
+        };
+    }
+
+    /**
+     * Gets the Java charset name of a Windows code page. Windows code pages, which include the ANSI code
+     * pages and the double-byte OEM code pages, are named {@code windows-<n>}, and the DOS code pages are
+     * named {@code cp<n>}.
+     */
+    static String charsetName(int codePage) {
+        return (codePage >= 874 ? "windows-" : "cp") + codePage;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.daanse.lcid.api.LcidComparatorFactory;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+
+/**
+ * Default implementation of the {@link LcidComparatorFactory} interface.
+ * <p>
+ * LCIDs are decoded like in {@link BasicLcidService}. There is one comparator per {@link LanguageID} and
+ * sort identifier, built on first use from a private collator, so the collators handed out by
+ * {@link BasicLcidService#lcidToCollator(int)} can be changed by callers without affecting it. Each
+ * comparator caches up to {@value #DEFAULT_MAX_KEYS} collation keys.
+ * </p>
+ */
+@Component(service = LcidComparatorFactory.class, scope = ServiceScope.SINGLETON)
+public class BasicLcidComparatorFactory implements LcidComparatorFactory {
+
+    /** Default bound of the number of collation keys cached per comparator. */
+    static final int DEFAULT_MAX_KEYS = 4096;
+
+    private static final int SORT_ID_RANGE = Lcid.SORT_FIELD_MASK + 1;
+
+    private final CollatorCache collators = new CollatorCache();
+
+    private final AtomicReferenceArray<CollationComparator> comparators = new AtomicReferenceArray<>(
+            LanguageID.values().length * SORT_ID_RANGE);
+
+    private final int maxKeys;
+
+    /**
+     * Creates a factory with the default bound.
+     */
+    public BasicLcidComparatorFactory() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    BasicLcidComparatorFactory(int maxKeys) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be at least 1: " + maxKeys);
+        }
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator<String> comparatorOrNull(int lcid) {
+        return collationComparatorOrNull(lcid);
+    }
+
+    CollationComparator collationComparatorOrNull(int lcid) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        if (languageID == null || languageID.getLocaleOrNull() == null) {
+            return null;
+        }
+        SortId sortId = SortId.lookup(languageID.getLanguageID(), Lcid.sortIdOf(lcid));
+        int index = languageID.ordinal() * SORT_ID_RANGE + sortId.getValue();
+        CollationComparator comparator = comparators.get(index);
+        if (comparator == null) {
+            Collator collator = collators.get(languageID, sortId);
+            comparator = new CollationComparator(collator, maxKeys);
+            if (!comparators.compareAndSet(index, null, comparator)) {
+                comparator = comparators.get(index);
+            }
+        }
+        return comparator;
+    }
+
+}
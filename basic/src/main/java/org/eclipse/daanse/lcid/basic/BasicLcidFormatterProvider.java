@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import org.eclipse.daanse.lcid.api.LcidFormatterProvider;
+import org.eclipse.daanse.lcid.api.LcidFormattingSymbols;
+import org.eclipse.daanse.lcid.api.NumberFormatLease;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+
+/**
+ * Default implementation of the {@link LcidFormatterProvider} interface.
+ * <p>
+ * LCIDs are decoded like in {@link BasicLcidService}. Formatters depend only on the Locale and the
+ * pattern, so they are cached per {@link LanguageID} and pattern. Each of the two caches is bounded to
+ * {@value #DEFAULT_MAX_ENTRIES} entries and evicts rarely used ones. Each number format pool keeps up to
+ * {@value #DEFAULT_POOL_CAPACITY} idle formats. Number formats are built from the shared symbols of a
+ * {@link BasicLcidFormattingContext}.
+ * </p>
+ */
+@Component(service = LcidFormatterProvider.class, scope = ServiceScope.SINGLETON)
+public class BasicLcidFormatterProvider implements LcidFormatterProvider {
+
+    /** Default bound of the number of cached formatters and number format pools. */
+    static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /** Default number of idle number formats kept per pool. */
+    static final int DEFAULT_POOL_CAPACITY = 8;
+
+    /**
+     * Key of a cached formatter. Either the pattern or the styles are set.
+     */
+    private record Key(LanguageID languageID, String pattern, FormatStyle dateStyle, FormatStyle timeStyle) {
+    }
+
+    private final BasicLcidFormattingContext formattingContext = new BasicLcidFormattingContext();
+
+    private final BoundedCache<Key, DateTimeFormatter> dateTimeFormatters;
+
+    private final BoundedCache<Key, NumberFormatPool> numberFormats;
+
+    private final int poolCapacity;
+
+    /**
+     * Creates a provider with the default bounds.
+     */
+    public BasicLcidFormatterProvider() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_POOL_CAPACITY);
+    }
+
+    BasicLcidFormatterProvider(int maxEntries, int poolCapacity) {
+        if (poolCapacity < 1) {
+            throw new IllegalArgumentException("poolCapacity must be at least 1: " + poolCapacity);
+        }
+        this.dateTimeFormatters = new BoundedCache<>(maxEntries);
+        this.numberFormats = new BoundedCache<>(maxEntries);
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DateTimeFormatter dateTimeFormatterOrNull(int lcid, String pattern) {
+        LanguageID languageID = lookupWithLocale(lcid);
+        if (languageID == null) {
+            return null;
+        }
+        return dateTimeFormatters.get(new Key(languageID, pattern, null, null),
+                key -> DateTimeFormatter.ofPattern(key.pattern(), key.languageID().getLocaleOrNull()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DateTimeFormatter localizedDateTimeFormatterOrNull(int lcid, FormatStyle dateStyle,
+            FormatStyle timeStyle) {
+        if (dateStyle == null && timeStyle == null) {
+            throw new IllegalArgumentException("Either dateStyle or timeStyle must be non-null");
+        }
+        LanguageID languageID = lookupWithLocale(lcid);
+        if (languageID == null) {
+            return null;
+        }
+        return dateTimeFormatters.get(new Key(languageID, null, dateStyle, timeStyle),
+                key -> localizedDateTimeFormatter(key.dateStyle(), key.timeStyle())
+                        .withLocale(key.languageID().getLocaleOrNull()));
+    }
+
+    private static DateTimeFormatter localizedDateTimeFormatter(FormatStyle dateStyle, FormatStyle timeStyle) {
+        if (timeStyle == null) {
+            return DateTimeFormatter.ofLocalizedDate(dateStyle);
+        }
+        if (dateStyle == null) {
+            return DateTimeFormatter.ofLocalizedTime(timeStyle);
+        }
+        return DateTimeFormatter.ofLocalizedDateTime(dateStyle, timeStyle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NumberFormatLease borrowNumberFormatOrNull(int lcid, String pattern) {
+        LanguageID languageID = lookupWithLocale(lcid);
+        if (languageID == null) {
+            return null;
+        }
+        return numberFormats.get(new Key(languageID, pattern, null, null), this::createNumberFormatPool).borrow();
+    }
+
+    private NumberFormatPool createNumberFormatPool(Key key) {
+        Locale locale = key.languageID().getLocaleOrNull();
+        NumberFormat prototype;
+        if (key.pattern() == null) {
+            prototype = NumberFormat.getInstance(locale);
+        } else {
+            LcidFormattingSymbols symbols = formattingContext.formattingSymbolsOrNull(
+                    Short.toUnsignedInt(key.languageID().getLanguageID()));
+            prototype = new DecimalFormat(key.pattern(), symbols.getDecimalFormatSymbols());
+        }
+        return new NumberFormatPool(prototype, poolCapacity);
+    }
+
+    private static LanguageID lookupWithLocale(int lcid) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        return languageID != null && languageID.getLocaleOrNull() != null ? languageID : null;
+    }
+
+    /**
+     * Gets the number of cached date-time formatters.
+     */
+    int dateTimeFormatterCount() {
+        return dateTimeFormatters.size();
+    }
+
+    /**
+     * Gets the number of cached number format pools.
+     */
+    int numberFormatPoolCount() {
+        return numberFormats.size();
+    }
+
+}
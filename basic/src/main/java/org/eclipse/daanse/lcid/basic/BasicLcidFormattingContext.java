@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.daanse.lcid.api.LcidFormattingContext;
+import org.eclipse.daanse.lcid.api.LcidFormattingSymbols;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+
+/**
+ * Default implementation of the {@link LcidFormattingContext} interface.
+ * <p>
+ * LCIDs are decoded like in {@link BasicLcidService}. The formatting symbols depend only on the Locale,
+ * so they are cached per {@link LanguageID} in a slot indexed by its ordinal and shared by all sort
+ * identifiers of the language. Each bundle is built on first use.
+ * </p>
+ */
+@Component(service = LcidFormattingContext.class, scope = ServiceScope.SINGLETON)
+public class BasicLcidFormattingContext implements LcidFormattingContext {
+
+    private final AtomicReferenceArray<LcidFormattingSymbols> symbols = new AtomicReferenceArray<>(
+            LanguageID.values().length);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LcidFormattingSymbols formattingSymbolsOrNull(int lcid) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        if (languageID == null || languageID.getLocaleOrNull() == null) {
+            return null;
+        }
+        int index = languageID.ordinal();
+        LcidFormattingSymbols formattingSymbols = symbols.get(index);
+        if (formattingSymbols == null) {
+            formattingSymbols = LcidFormattingSymbols.of(languageID.getLocaleOrNull());
+            if (!symbols.compareAndSet(index, null, formattingSymbols)) {
+                formattingSymbols = symbols.get(index);
+            }
+        }
+        return formattingSymbols;
+    }
+
+}
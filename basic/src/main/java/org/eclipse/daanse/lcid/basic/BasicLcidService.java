@@ -13,11 +13,27 @@
  */
 package org.eclipse.daanse.lcid.basic;
 
+import java.lang.management.ManagementFactory;
+import java.nio.IntBuffer;
+import java.text.Collator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.eclipse.daanse.lcid.api.LcidConversionEvent;
+import org.eclipse.daanse.lcid.api.LcidMetrics;
+import org.eclipse.daanse.lcid.api.LcidResolution;
 import org.eclipse.daanse.lcid.api.LcidService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,41 +44,97 @@ import org.slf4j.LoggerFactory;
  * This OSGi component provides LCID to Locale conversion functionality using the built-in language
  * identifier mappings.
  * </p>
+ * <p>
+ * Incoming values are decoded as full 32-bit LCIDs: the language identifier selects the
+ * {@link LanguageID}, the sort identifier must be valid for that language (see {@link SortId}), and the
+ * sort version is accepted but has no Java equivalent. Values with reserved bits set are rejected.
+ * {@link #resolveLcid(int)} instead falls back along a chain precomputed in {@link LcidFallbackTable}.
+ * </p>
+ * <p>
+ * Every {@code lcidToLocale} conversion is counted. The counters are published as {@link LcidMetrics}
+ * service and, while the component is active, as JMX MXBean under {@value LcidMetricsMXBean#OBJECT_NAME}.
+ * Single conversions additionally emit an {@link LcidConversionEvent} when it is enabled in a flight
+ * recording; bulk conversions do not, to keep recordings small.
+ * </p>
  */
-@Component(service = LcidService.class, scope = ServiceScope.SINGLETON)
-public class BasicLcidService implements LcidService {
+@Component(service = { LcidService.class, LcidMetrics.class }, scope = ServiceScope.SINGLETON)
+public class BasicLcidService implements LcidService, LcidMetricsMXBean {
 
     private static final Logger logger = LoggerFactory.getLogger(BasicLcidService.class);
 
+    private final CollatorCache collators = new CollatorCache();
+
+    private final LcidUsageCounters counters = new LcidUsageCounters();
+
+    private ObjectName registeredObjectName;
+
+    /**
+     * Activates the component and registers its metrics in the platform MBean server.
+     * <p>
+     * A failed registration is logged and does not prevent the service from working.
+     * </p>
+     */
+    @Activate
+    public void activate() {
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            mBeanServer.registerMBean(new StandardMBean(this, LcidMetricsMXBean.class, true), objectName);
+            registeredObjectName = objectName;
+        } catch (JMException e) {
+            logger.warn("Failed to register LCID metrics MBean '{}': {}", OBJECT_NAME, e.getMessage());
+        }
+    }
+
+    /**
+     * Deactivates the component and unregisters its metrics from the platform MBean server.
+     */
+    @Deactivate
+    public void deactivate() {
+        if (registeredObjectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredObjectName);
+            } catch (JMException e) {
+                logger.warn("Failed to unregister LCID metrics MBean '{}': {}", registeredObjectName,
+                        e.getMessage());
+            }
+            registeredObjectName = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
+     * <p>
+     * The returned Optional is the canonical instance held by the matching
+     * {@link LanguageID}, so no parsing or allocation happens per call.
+     * </p>
      */
     @Override
     public Optional<Locale> lcidToLocale(Optional<Integer> localeIdentifier) {
         logger.debug("Converting LCID to Locale: {}", localeIdentifier);
 
         if (localeIdentifier != null && localeIdentifier.isPresent()) {
+            LcidConversionEvent event = new LcidConversionEvent();
+            event.begin();
             int lcidValue = localeIdentifier.get();
-            LanguageID languageID = LanguageID.lookupByLcid((short) lcidValue);
+            LanguageID languageID = lookup(lcidValue);
 
             if (languageID != null) {
-                String msId = languageID.getMsId();
-                if (msId != null) {
-                    try {
-                        Locale locale = parseLocale(msId);
-                        logger.debug("Successfully converted LCID {} to Locale {}", lcidValue, locale);
-                        return Optional.of(locale);
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to parse locale string '{}' for LCID {}: {}", msId, lcidValue,
-                                e.getMessage());
-                    }
-                } else {
-                    logger.debug("No MS ID available for LCID {}", lcidValue);
+                Optional<Locale> oLocale = languageID.getLocale();
+                if (oLocale.isPresent()) {
+                    counters.recordHit(languageID);
+                    event.commit(BasicLcidService.class, lcidValue, oLocale.get(), LcidConversionEvent.HIT);
+                    logger.debug("Successfully converted LCID {} to Locale {}", lcidValue, oLocale.get());
+                    return oLocale;
                 }
+                logger.debug("No Locale available for LCID {}", lcidValue);
             } else {
                 logger.debug("No LanguageID found for LCID {}", lcidValue);
             }
+            counters.recordMiss();
+            event.commit(BasicLcidService.class, lcidValue, null, LcidConversionEvent.MISS);
         } else {
+            counters.recordNullInput();
             logger.debug("LCID value is null or empty");
         }
 
@@ -70,26 +142,230 @@ public class BasicLcidService implements LcidService {
     }
 
     /**
-     * Parses a locale string.
-     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocaleOrNull(int lcid) {
+        LcidConversionEvent event = new LcidConversionEvent();
+        event.begin();
+        Locale locale = resolve(lcid);
+        event.commit(BasicLcidService.class, lcid, locale,
+                locale != null ? LcidConversionEvent.HIT : LcidConversionEvent.MISS);
+        return locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocale(int lcid, Locale fallback) {
+        LcidConversionEvent event = new LcidConversionEvent();
+        event.begin();
+        Locale locale = resolve(lcid);
+        if (locale != null) {
+            event.commit(BasicLcidService.class, lcid, locale, LcidConversionEvent.HIT);
+            return locale;
+        }
+        event.commit(BasicLcidService.class, lcid, fallback, LcidConversionEvent.FALLBACK);
+        return fallback;
+    }
+
+    private Locale resolve(int lcid) {
+        LanguageID languageID = lookup(lcid);
+        if (languageID != null) {
+            Locale locale = languageID.getLocaleOrNull();
+            if (locale != null) {
+                counters.recordHit(languageID);
+                return locale;
+            }
+        }
+        counters.recordMiss();
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The resolution is read from a table precomputed for every language identifier. Only an LCID with
+     * sort bits that are not valid for a known language takes a second lookup.
+     * </p>
+     */
+    @Override
+    public LcidResolution resolveLcid(int lcid) {
+        LcidResolution resolution = LcidFallbackTable.forLanguageId(Lcid.languageIdOf(lcid));
+        if (resolution.isExact() && resolution.lcid() != lcid && lookup(lcid) == null) {
+            return LcidFallbackTable.sortStripped(LanguageID.lookupByLcid(resolution.lcid()));
+        }
+        return resolution;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The reverse lookup is a single hash probe on the canonical locales of {@link LanguageID}.
+     * </p>
+     */
+    @Override
+    public OptionalInt localeToLcid(Locale locale) {
+        LanguageID languageID = LanguageID.lookupByLocale(locale);
+        return languageID != null ? OptionalInt.of(Short.toUnsignedInt(languageID.getLanguageID()))
+                : OptionalInt.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int localeToLcid(Locale locale, int fallback) {
+        LanguageID languageID = LanguageID.lookupByLocale(locale);
+        return languageID != null ? Short.toUnsignedInt(languageID.getLanguageID()) : fallback;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole range is resolved in one loop against the language identifier table, without logging
+     * or wrapping individual results.
+     * </p>
+     */
+    @Override
+    public void lcidsToLocales(int[] lcids, int lcidsOffset, Locale[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        int hits = 0;
+        for (int i = 0; i < length; i++) {
+            Locale locale = resolveCounted(lcids[lcidsOffset + i]);
+            out[outOffset + i] = locale;
+            if (locale != null) {
+                hits++;
+            }
+        }
+        counters.recordHits(hits);
+        counters.recordMisses(length - hits);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Heap buffers are resolved directly on their backing array.
+     * </p>
+     */
+    @Override
+    public void lcidsToLocales(IntBuffer lcids, Locale[] out, int outOffset) {
+        int position = lcids.position();
+        int length = lcids.remaining();
+        if (lcids.hasArray()) {
+            lcidsToLocales(lcids.array(), lcids.arrayOffset() + position, out, outOffset, length);
+        } else {
+            Objects.checkFromIndexSize(outOffset, length, out.length);
+            int hits = 0;
+            for (int i = 0; i < length; i++) {
+                Locale locale = resolveCounted(lcids.get(position + i));
+                out[outOffset + i] = locale;
+                if (locale != null) {
+                    hits++;
+                }
+            }
+            counters.recordHits(hits);
+            counters.recordMisses(length - hits);
+        }
+        lcids.position(position + length);
+    }
+
+    /**
+     * Resolves an LCID and records only its per-language usage, leaving the hit and miss totals to the
+     * bulk caller.
+     */
+    private Locale resolveCounted(int lcid) {
+        LanguageID languageID = lookup(lcid);
+        if (languageID != null) {
+            Locale locale = languageID.getLocaleOrNull();
+            if (locale != null) {
+                counters.recordUsage(languageID);
+                return locale;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
      * <p>
-     * The inverse operation of {@link java.util.Locale#toString()}.
+     * The collator is built once per language identifier and sort identifier, so 0x10407 (German, phone
+     * book order) and 0x0407 (German, default order) get distinct collators. Each call returns a clone of
+     * the cached collator, which is cheaper than building it and can be changed by the caller.
+     * </p>
+     */
+    @Override
+    public Collator lcidToCollator(int lcid) {
+        LanguageID languageID = lookup(lcid);
+        if (languageID == null || languageID.getLocaleOrNull() == null) {
+            return null;
+        }
+        return (Collator) collators.get(languageID, SortId.lookup(languageID.getLanguageID(), Lcid.sortIdOf(lcid)))
+                .clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalCalls() {
+        return counters.hits() + counters.misses() + counters.nullInputs();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHits() {
+        return counters.hits();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMisses() {
+        return counters.misses();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNullInputs() {
+        return counters.nullInputs();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Integer, Long> getUsageByLanguageId() {
+        return counters.usageByLanguageId();
+    }
+
+    /**
+     * Decodes a full LCID and looks up its language identifier.
      *
-     * @param localeString Locale string, e.g. "en" or "en_US"
-     * @return Java locale object
-     */
-    private Locale parseLocale(String localeString) {
-        String[] strings = localeString.split("_");
-        switch (strings.length) {
-        case 1:
-            return Locale.of(strings[0]);
-        case 2:
-            return Locale.of(strings[0], strings[1]);
-        case 3:
-            return Locale.of(strings[0], strings[1], strings[2]);
-        default:
-            throw new RuntimeException("bad locale string '" + localeString + "'");
+     * @param lcid the packed LCID
+     * @return the LanguageID, or null if the LCID has reserved bits set, an unknown language identifier
+     *         or a sort identifier that is not valid for the language
+     */
+    static LanguageID lookup(int lcid) {
+        if (!Lcid.hasValidLayout(lcid)) {
+            return null;
+        }
+        LanguageID languageID = LanguageID.lookupByLcid(Lcid.languageIdOf(lcid));
+        if (languageID == null) {
+            return null;
+        }
+        int sortId = Lcid.sortIdOf(lcid);
+        if (sortId != 0 && SortId.lookup(languageID.getLanguageID(), sortId) == null) {
+            return null;
         }
+        return languageID;
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Concurrent cache with a bounded number of entries.
+ * <p>
+ * Eviction follows the clock algorithm: a hit only sets the used flag of its entry, and only if it is
+ * not yet set, so hits neither lock nor write to shared state in the common case. When the cache grows
+ * beyond its bound, one thread sweeps the entries. It evicts the ones not used since the previous
+ * sweep and clears the flag of all others, until the cache is back at three quarters of its bound.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class BoundedCache<K, V> {
+
+    private static final class Entry<V> {
+
+        final V value;
+
+        /** Set by hits, so new entries that were never hit are evicted first. */
+        volatile boolean used;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final int maxEntries;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries the number of entries above which entries are evicted, at least 1
+     */
+    BoundedCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the value of a key, creating it on first use.
+     *
+     * @param key     the key
+     * @param factory creates the value of a missing key
+     * @return the cached value
+     */
+    V get(K key, Function<? super K, ? extends V> factory) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, k -> new Entry<>(factory.apply(k)));
+            if (entries.size() > maxEntries) {
+                evict();
+            }
+        } else if (!entry.used) {
+            entry.used = true;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // another thread is already sweeping
+            return;
+        }
+        try {
+            int target = Math.max(1, maxEntries * 3 / 4);
+            while (entries.size() > target) {
+                Iterator<Entry<V>> iterator = entries.values().iterator();
+                while (iterator.hasNext() && entries.size() > target) {
+                    Entry<V> entry = iterator.next();
+                    if (entry.used) {
+                        entry.used = false;
+                    } else {
+                        iterator.remove();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Locale;
+
+/**
+ * Locale-aware case folding for comparing identifiers case-insensitively.
+ * <p>
+ * Folding maps each character to its upper case, as {@link String#toUpperCase(Locale)} does for the
+ * Locale of an LCID, but one character at a time and without allocating. Turkish and Azerbaijani fold
+ * the dotted and dotless i differently from all other languages, so there are two folding behaviours.
+ * Each has a precomputed fold table for the first {@value #TABLE_SIZE} characters. Other characters use
+ * {@link Character#toUpperCase(char)}, and equal characters are matched before any lookup. Multi-character
+ * mappings such as {@code ß} to {@code SS} are not applied.
+ * </p>
+ */
+public enum CaseFolding {
+
+    /** Folding of all languages without special casing rules. */
+    DEFAULT(false),
+
+    /** Folding of Turkish and Azerbaijani: {@code i} folds to {@code İ}, {@code ı} to {@code I}. */
+    TURKIC(true);
+
+    /** Number of characters covered by the fold tables, including Latin, Greek and Cyrillic. */
+    static final int TABLE_SIZE = 0x800;
+
+    private static final char SMALL_DOTLESS_I = '\u0131';
+    private static final char CAPITAL_DOTTED_I = '\u0130';
+
+    private final char[] table = new char[TABLE_SIZE];
+
+    CaseFolding(boolean turkic) {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            table[c] = Character.toUpperCase(c);
+        }
+        if (turkic) {
+            table['i'] = CAPITAL_DOTTED_I;
+            table[SMALL_DOTLESS_I] = 'I';
+        }
+    }
+
+    /**
+     * Folding behaviour per {@link LanguageID} ordinal, built on first use.
+     */
+    private static final class ByLanguage {
+
+        private static final CaseFolding[] INDEX = create();
+
+        private static CaseFolding[] create() {
+            LanguageID[] languageIDs = LanguageID.values();
+            CaseFolding[] index = new CaseFolding[languageIDs.length];
+            for (LanguageID languageID : languageIDs) {
+                index[languageID.ordinal()] = of(languageID.getLocaleOrNull());
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Gets the folding behaviour of a Locale.
+     *
+     * @param locale the Locale, may be null
+     * @return {@link #TURKIC} for Turkish and Azerbaijani, {@link #DEFAULT} otherwise
+     */
+    public static CaseFolding of(Locale locale) {
+        if (locale == null) {
+            return DEFAULT;
+        }
+        String language = locale.getLanguage();
+        return language.equals("tr") || language.equals("az") ? TURKIC : DEFAULT;
+    }
+
+    /**
+     * Gets the folding behaviour of an LCID.
+     *
+     * @param lcid the LCID value
+     * @return the folding behaviour of its language, or {@link #DEFAULT} if the LCID is unknown
+     */
+    public static CaseFolding forLcid(int lcid) {
+        LanguageID languageID = BasicLcidService.lookup(lcid);
+        return languageID != null ? ByLanguage.INDEX[languageID.ordinal()] : DEFAULT;
+    }
+
+    /**
+     * Compares two character sequences case-insensitively under the folding of an LCID.
+     *
+     * @param a    the first sequence, may be null
+     * @param b    the second sequence, may be null
+     * @param lcid the LCID value
+     * @return true if both are null or equal after folding
+     */
+    public static boolean equalsIgnoreCase(CharSequence a, CharSequence b, int lcid) {
+        return forLcid(lcid).equalsIgnoreCase(a, b);
+    }
+
+    /**
+     * Computes a hash code of a character sequence that is consistent with
+     * {@link #equalsIgnoreCase(CharSequence, CharSequence, int)} for the same LCID.
+     *
+     * @param s    the sequence, may be null
+     * @param lcid the LCID value
+     * @return the hash code, 0 for null
+     */
+    public static int hashIgnoreCase(CharSequence s, int lcid) {
+        return forLcid(lcid).hashIgnoreCase(s);
+    }
+
+    /**
+     * Folds a character.
+     *
+     * @param c the character
+     * @return the folded character
+     */
+    public char fold(char c) {
+        if (c < TABLE_SIZE) {
+            return table[c];
+        }
+        return Character.toUpperCase(c);
+    }
+
+    /**
+     * Compares two character sequences case-insensitively.
+     *
+     * @param a the first sequence, may be null
+     * @param b the second sequence, may be null
+     * @return true if both are null or equal after folding
+     */
+    public boolean equalsIgnoreCase(CharSequence a, CharSequence b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = a.charAt(i);
+            char d = b.charAt(i);
+            if (c != d && fold(c) != fold(d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes a hash code of a character sequence that is consistent with
+     * {@link #equalsIgnoreCase(CharSequence, CharSequence)}.
+     *
+     * @param s the sequence, may be null
+     * @return the hash code, 0 for null
+     */
+    public int hashIgnoreCase(CharSequence s) {
+        if (s == null) {
+            return 0;
+        }
+        int hash = 0;
+        for (int i = 0; i < s.length(); i++) {
+            hash = 31 * hash + fold(s.charAt(i));
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+import org.eclipse.daanse.lcid.api.CharsetDecoderLease;
+import org.eclipse.daanse.lcid.api.CharsetEncoderLease;
+
+/**
+ * Lock-free pools of the decoders and encoders of one {@link Charset}.
+ * <p>
+ * The pools work like a {@link NumberFormatPool}: idle codecs are kept in {@link IdleSlots}, borrowing
+ * wraps an idle codec or a new one in a new lease, and codecs returned to a full pool are dropped. Codecs are reset when their lease is closed and replace malformed and unmappable input.
+ * </p>
+ */
+final class CharsetCodecPool {
+
+    /**
+     * A decoder lease that returns its decoder to the pool.
+     */
+    private static final class PooledDecoder implements CharsetDecoderLease {
+
+        private final CharsetCodecPool pool;
+        private CharsetDecoder decoder;
+
+        PooledDecoder(CharsetCodecPool pool, CharsetDecoder decoder) {
+            this.pool = pool;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public CharsetDecoder decoder() {
+            CharsetDecoder current = decoder;
+            if (current == null) {
+                throw new IllegalStateException("The decoder lease is closed");
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            CharsetDecoder current = decoder;
+            if (current != null) {
+                decoder = null;
+                current.reset();
+                pool.idleDecoders.offer(current);
+            }
+        }
+    }
+
+    /**
+     * An encoder lease that returns its encoder to the pool.
+     */
+    private static final class PooledEncoder implements CharsetEncoderLease {
+
+        private final CharsetCodecPool pool;
+        private CharsetEncoder encoder;
+
+        PooledEncoder(CharsetCodecPool pool, CharsetEncoder encoder) {
+            this.pool = pool;
+            this.encoder = encoder;
+        }
+
+        @Override
+        public CharsetEncoder encoder() {
+            CharsetEncoder current = encoder;
+            if (current == null) {
+                throw new IllegalStateException("The encoder lease is closed");
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            CharsetEncoder current = encoder;
+            if (current != null) {
+                encoder = null;
+                current.reset();
+                pool.idleEncoders.offer(current);
+            }
+        }
+    }
+
+    private final Charset charset;
+
+    private final IdleSlots<CharsetDecoder> idleDecoders;
+
+    private final IdleSlots<CharsetEncoder> idleEncoders;
+
+    /**
+     * Creates the pools of a charset.
+     *
+     * @param charset  the charset
+     * @param capacity the number of idle codecs kept per pool, at least 1
+     */
+    CharsetCodecPool(Charset charset, int capacity) {
+        this.charset = charset;
+        this.idleDecoders = new IdleSlots<>(capacity);
+        this.idleEncoders = new IdleSlots<>(capacity);
+    }
+
+    /**
+     * Gets the charset of the pooled codecs.
+     *
+     * @return the charset
+     */
+    Charset charset() {
+        return charset;
+    }
+
+    /**
+     * Borrows a decoder.
+     *
+     * @return a lease that must be closed
+     */
+    CharsetDecoderLease borrowDecoder() {
+        CharsetDecoder decoder = idleDecoders.take();
+        if (decoder == null) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return new PooledDecoder(this, decoder);
+    }
+
+    /**
+     * Borrows an encoder.
+     *
+     * @return a lease that must be closed
+     * @throws UnsupportedOperationException if the charset does not support encoding
+     */
+    CharsetEncoderLease borrowEncoder() {
+        CharsetEncoder encoder = idleEncoders.take();
+        if (encoder == null) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return new PooledEncoder(this, encoder);
+    }
+
+}
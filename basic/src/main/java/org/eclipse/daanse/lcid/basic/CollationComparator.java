@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+
+/**
+ * Comparator that orders strings like a {@link Collator}.
+ * <p>
+ * Pairs of ASCII strings are compared with the {@link AsciiCollationTable} of the collator if it has
+ * one. All other strings are compared by their {@link CollationKey}s, which are kept in a bounded cache
+ * so that strings compared many times while sorting are only decomposed once.
+ * </p>
+ */
+final class CollationComparator implements Comparator<String> {
+
+    private final Collator collator;
+
+    private final AsciiCollationTable asciiTable;
+
+    private final BoundedCache<String, CollationKey> keys;
+
+    /**
+     * Creates a comparator.
+     *
+     * @param collator   the collator, must not be changed afterwards
+     * @param maxEntries the bound of the number of cached collation keys
+     */
+    CollationComparator(Collator collator, int maxEntries) {
+        this.collator = collator;
+        this.asciiTable = AsciiCollationTable.build(collator);
+        this.keys = new BoundedCache<>(maxEntries);
+    }
+
+    @Override
+    public int compare(String a, String b) {
+        if (asciiTable != null) {
+            int result = asciiTable.compare(a, b);
+            if (result != AsciiCollationTable.FALLBACK) {
+                return result;
+            }
+        }
+        return collationKey(a).compareTo(collationKey(b));
+    }
+
+    private CollationKey collationKey(String s) {
+        return keys.get(s, collator::getCollationKey);
+    }
+
+    /**
+     * Tells whether pairs of ASCII strings can be compared without the collator.
+     *
+     * @return true if the comparator has an ASCII fast path
+     */
+    boolean hasAsciiFastPath() {
+        return asciiTable != null;
+    }
+
+    /**
+     * Gets the number of cached collation keys.
+     *
+     * @return the number of keys
+     */
+    int collationKeyCount() {
+        return keys.size();
+    }
+
+}
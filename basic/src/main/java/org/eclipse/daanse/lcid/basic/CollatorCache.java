@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.Collator;
+import java.text.ParseException;
+import java.text.RuleBasedCollator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lazily built cache of one {@link Collator} per {@link LanguageID} and sort identifier value.
+ * <p>
+ * Slots are indexed by the ordinal of the language identifier and the 4-bit sort identifier, so a
+ * lookup never allocates. Sort identifiers that the JDK has a tailoring for, such as the German phone
+ * book order, get their rules appended to the locale rules; all others use the locale collator.
+ * </p>
+ */
+final class CollatorCache {
+
+    private static final int SORT_ID_RANGE = Lcid.SORT_FIELD_MASK + 1;
+
+    /** Phone book order sorts umlauts as the vowel followed by "e". */
+    private static final String GERMAN_PHONE_BOOK_RULES = "& ae , ä & AE , Ä & oe , ö & OE , Ö"
+            + " & ue , ü & UE , Ü";
+
+    private final AtomicReferenceArray<Collator> collators = new AtomicReferenceArray<>(
+            LanguageID.values().length * SORT_ID_RANGE);
+
+    /**
+     * Gets the collator for a language identifier and sort identifier, creating it on first use.
+     *
+     * @param languageID the language identifier, must have a locale
+     * @param sortId     the sort identifier, must be valid for the language
+     * @return the shared collator
+     */
+    Collator get(LanguageID languageID, SortId sortId) {
+        int index = languageID.ordinal() * SORT_ID_RANGE + sortId.getValue();
+        Collator collator = collators.get(index);
+        if (collator == null) {
+            collator = create(languageID.getLocaleOrNull(), sortId);
+            if (!collators.compareAndSet(index, null, collator)) {
+                collator = collators.get(index);
+            }
+        }
+        return collator;
+    }
+
+    private static Collator create(Locale locale, SortId sortId) {
+        Collator collator = Collator.getInstance(locale);
+        if (sortId == SortId.SORT_GERMAN_PHONE_BOOK && collator instanceof RuleBasedCollator ruleBased) {
+            try {
+                return new RuleBasedCollator(ruleBased.getRules() + GERMAN_PHONE_BOOK_RULES);
+            } catch (ParseException e) {
+                throw new IllegalStateException("Invalid collation rules for sortId '" + sortId.name() + "'", e);
+            }
+        }
+        return collator;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free, bounded set of idle pooled objects, shared by {@link NumberFormatPool} and
+ * {@link CharsetCodecPool}.
+ * <p>
+ * Objects are kept in a fixed number of slots. Threads start probing at a slot derived from their id to
+ * spread contention. An object offered to a full set is dropped, so the memory held is bounded no matter
+ * how many threads return objects at once.
+ * </p>
+ *
+ * @param <T> the type of the pooled objects
+ */
+final class IdleSlots<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Creates an empty set.
+     *
+     * @param capacity the number of idle objects kept, at least 1
+     */
+    IdleSlots(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Takes an idle object.
+     *
+     * @return the object, or null if there is none
+     */
+    T take() {
+        int length = slots.length();
+        int start = probeStart(length);
+        for (int i = 0; i < length; i++) {
+            int slot = (start + i) % length;
+            T object = slots.get(slot);
+            if (object != null && slots.compareAndSet(slot, object, null)) {
+                return object;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts an object into a free slot, or drops it if all slots are taken.
+     *
+     * @param object the idle object
+     */
+    void offer(T object) {
+        int length = slots.length();
+        int start = probeStart(length);
+        for (int i = 0; i < length; i++) {
+            int slot = (start + i) % length;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, object)) {
+                return;
+            }
+        }
+    }
+
+    private static int probeStart(int length) {
+        return (int) (Thread.currentThread().threadId() % length);
+    }
+
+}
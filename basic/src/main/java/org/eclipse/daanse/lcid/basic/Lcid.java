@@ -13,13 +13,21 @@
  */
 package org.eclipse.daanse.lcid.basic;
 
+import java.util.stream.Stream;
+
 /**
  * Represents a Windows Locale Identifier (LCID).
  * <p>
  * An LCID is a 32-bit value that uniquely defines a locale. It consists of a
- * language identifier (lower 16 bits) and a sort identifier (upper 16 bits).
- * This record provides convenient constructors for creating LCID values from
- * their components.
+ * language identifier (lower 16 bits), a sort identifier (bits 16 to 19), a sort
+ * version (bits 20 to 23) and reserved bits. The language identifier itself
+ * consists of a primary language (lower 10 bits) and a sub-language (upper 6
+ * bits). This record provides convenient constructors for creating LCID values
+ * from their components and accessors for each of them.
+ * </p>
+ * <p>
+ * {@link #of(int)} returns shared instances for the language identifiers of
+ * {@link LanguageID}.
  * </p>
  *
  * @param lcid the complete LCID value as a 32-bit integer
@@ -30,14 +38,45 @@ package org.eclipse.daanse.lcid.basic;
  */
 public record Lcid(int lcid) {
 
+    /**
+     * Result of {@link #tryCompose(short, SortId)} for an invalid combination. It is not a valid LCID
+     * because its reserved bits are set.
+     */
+    public static final int INVALID = -1;
+
+    /** Mask selecting the 16-bit language identifier of an LCID. */
+    static final int LANGUAGE_ID_MASK = 0xFFFF;
+
+    /** Number of bits of the primary language in a language identifier. */
+    static final int PRIMARY_LANGUAGE_BITS = 10;
+
+    /** Mask selecting the primary language of a language identifier. */
+    static final int PRIMARY_LANGUAGE_MASK = (1 << PRIMARY_LANGUAGE_BITS) - 1;
+
+    /** Bit position of the 4-bit sort identifier. */
+    static final int SORT_ID_SHIFT = 16;
+
+    /** Bit position of the 4-bit sort version. */
+    static final int SORT_VERSION_SHIFT = 20;
+
+    /** Mask selecting a 4-bit sort field after shifting. */
+    static final int SORT_FIELD_MASK = 0xF;
+
+    /** Mask selecting the reserved bits, which must be zero in a valid LCID. */
+    static final int RESERVED_MASK = 0xFF000000;
+
     /**
      * Creates an LCID from a language identifier and sort identifier.
+     * <p>
+     * Both values are taken as unsigned, so high language identifiers such as
+     * {@code 0xF2EE} do not spill into the sort bits.
+     * </p>
      *
      * @param languageId the language identifier (16-bit value)
      * @param sortId     the sort identifier (8-bit value)
      */
     public Lcid(short languageId, byte sortId) {
-        this((sortId << 16) | languageId);
+        this(Byte.toUnsignedInt(sortId) << SORT_ID_SHIFT | Short.toUnsignedInt(languageId));
     }
 
     /**
@@ -62,4 +101,133 @@ public record Lcid(int lcid) {
         this(languageId, SortId.getValidatedValue(languageId, sortId));
     }
 
+    /**
+     * Shared instances for the language identifiers of {@link LanguageID}, built on first use.
+     */
+    private static final class Cache {
+
+        private static final Lcid[] VALUES = Stream.of(LanguageID.values())
+                .map(languageID -> new Lcid(Short.toUnsignedInt(languageID.getLanguageID())))
+                .toArray(Lcid[]::new);
+    }
+
+    /**
+     * Gets the LCID of a packed value.
+     *
+     * @param lcid the packed LCID
+     * @return a shared instance if the value is a language identifier of
+     *         {@link LanguageID} with default sort, a new instance otherwise
+     */
+    public static Lcid of(int lcid) {
+        if ((lcid & ~LANGUAGE_ID_MASK) == 0) {
+            LanguageID languageID = LanguageID.lookupByLcid(lcid);
+            if (languageID != null) {
+                return Cache.VALUES[languageID.ordinal()];
+            }
+        }
+        return new Lcid(lcid);
+    }
+
+    /**
+     * Gets the language identifier.
+     *
+     * @return the unsigned 16-bit language identifier
+     */
+    public int languageId() {
+        return languageIdOf(lcid);
+    }
+
+    /**
+     * Gets the primary language of the language identifier.
+     *
+     * @return the 10-bit primary language
+     */
+    public int primaryLanguage() {
+        return lcid & PRIMARY_LANGUAGE_MASK;
+    }
+
+    /**
+     * Gets the sub-language of the language identifier.
+     *
+     * @return the 6-bit sub-language
+     */
+    public int subLanguage() {
+        return languageIdOf(lcid) >>> PRIMARY_LANGUAGE_BITS;
+    }
+
+    /**
+     * Gets the sort identifier.
+     *
+     * @return the 4-bit sort identifier
+     * @see SortId#lookup(short, int)
+     */
+    public int sortId() {
+        return sortIdOf(lcid);
+    }
+
+    /**
+     * Gets the sort version.
+     *
+     * @return the 4-bit sort version
+     */
+    public int sortVersion() {
+        return sortVersionOf(lcid);
+    }
+
+    /**
+     * Composes an LCID from a language identifier and sort identifier without throwing.
+     *
+     * @param languageId the language identifier (16-bit value)
+     * @param sortId     the sort identifier enum value, may be null
+     * @return the packed LCID, or {@link #INVALID} if the sort identifier is not valid for the
+     *         language
+     * @see SortId#isValid(short, SortId)
+     */
+    public static int tryCompose(short languageId, SortId sortId) {
+        if (!SortId.isValid(languageId, sortId)) {
+            return INVALID;
+        }
+        return sortId.getValue() << SORT_ID_SHIFT | Short.toUnsignedInt(languageId);
+    }
+
+    /**
+     * Extracts the language identifier of a packed LCID.
+     *
+     * @param lcid the packed LCID
+     * @return the unsigned 16-bit language identifier
+     */
+    static int languageIdOf(int lcid) {
+        return lcid & LANGUAGE_ID_MASK;
+    }
+
+    /**
+     * Extracts the sort identifier of a packed LCID.
+     *
+     * @param lcid the packed LCID
+     * @return the 4-bit sort identifier
+     */
+    static int sortIdOf(int lcid) {
+        return (lcid >>> SORT_ID_SHIFT) & SORT_FIELD_MASK;
+    }
+
+    /**
+     * Extracts the sort version of a packed LCID.
+     *
+     * @param lcid the packed LCID
+     * @return the 4-bit sort version
+     */
+    static int sortVersionOf(int lcid) {
+        return (lcid >>> SORT_VERSION_SHIFT) & SORT_FIELD_MASK;
+    }
+
+    /**
+     * Checks whether the reserved bits of a packed LCID are clear.
+     *
+     * @param lcid the packed LCID
+     * @return true if no reserved bit is set
+     */
+    static boolean hasValidLayout(int lcid) {
+        return (lcid & RESERVED_MASK) == 0;
+    }
+
 }
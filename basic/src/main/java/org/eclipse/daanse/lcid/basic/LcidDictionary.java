@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Dense dictionary encoding of LCIDs for columnar storage.
+ * <p>
+ * Every LCID that {@link LanguageID} and {@link SortId} know, that is every language identifier with its
+ * default sort and every valid combination with an alternate sort, has a dense {@code short} code.
+ * Code {@value #NULL_CODE} stands for no LCID, so a zero-filled column holds only nulls, and the
+ * language identifiers with default sort have the codes 1 to {@code LanguageID.values().length} in
+ * declaration order. A column of codes takes 2 bytes per row instead of 4 for an {@code int} LCID or 4
+ * to 8 for a Locale reference, and {@link #pack(short[], int, int)} stores each code in
+ * {@link #bitsPerCode()} bits.
+ * </p>
+ * <p>
+ * Encoding and decoding are single array reads, in bulk over arrays or over int and short buffers, which
+ * may be views of off-heap memory. The codes depend on the tables of this version of the library, so they
+ * are meant for data in memory and must not be persisted.
+ * </p>
+ */
+public final class LcidDictionary {
+
+    /** Code of a missing or unknown LCID. */
+    public static final short NULL_CODE = 0;
+
+    private static final int SORT_ID_RANGE = Lcid.SORT_FIELD_MASK + 1;
+
+    /**
+     * The code tables, built on first use.
+     */
+    private static final class Tables {
+
+        /** The LCID of each code, {@link Lcid#INVALID} for {@link #NULL_CODE}. */
+        private static final int[] LCID_BY_CODE;
+
+        /** The code of each language identifier ordinal and sort identifier value. */
+        private static final short[] CODE_BY_SLOT;
+
+        private static final int BITS_PER_CODE;
+
+        static {
+            LanguageID[] languageIDs = LanguageID.values();
+            SortId[] sortIds = SortId.values();
+            int[] lcids = new int[1 + languageIDs.length * SORT_ID_RANGE];
+            short[] codes = new short[languageIDs.length * SORT_ID_RANGE];
+            lcids[NULL_CODE] = Lcid.INVALID;
+            int size = 1;
+            for (LanguageID languageID : languageIDs) {
+                codes[languageID.ordinal() * SORT_ID_RANGE] = (short) size;
+                lcids[size++] = Short.toUnsignedInt(languageID.getLanguageID());
+            }
+            for (LanguageID languageID : languageIDs) {
+                for (SortId sortId : sortIds) {
+                    if (sortId.getValue() != 0 && SortId.isValid(languageID.getLanguageID(), sortId)) {
+                        codes[languageID.ordinal() * SORT_ID_RANGE + sortId.getValue()] = (short) size;
+                        lcids[size++] = Lcid.tryCompose(languageID.getLanguageID(), sortId);
+                    }
+                }
+            }
+            LCID_BY_CODE = Arrays.copyOf(lcids, size);
+            CODE_BY_SLOT = codes;
+            BITS_PER_CODE = Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+        }
+    }
+
+    private LcidDictionary() {
+    }
+
+    /**
+     * Gets the number of codes, including {@link #NULL_CODE}.
+     *
+     * @return the number of codes
+     */
+    public static int size() {
+        return Tables.LCID_BY_CODE.length;
+    }
+
+    /**
+     * Gets the number of bits that hold every code, as used by {@link #pack(short[], int, int)}.
+     *
+     * @return the number of bits per packed code
+     */
+    public static int bitsPerCode() {
+        return Tables.BITS_PER_CODE;
+    }
+
+    /**
+     * Encodes an LCID.
+     *
+     * @param lcid the packed LCID
+     * @return the code, or {@link #NULL_CODE} if the LCID has reserved bits or a sort version set, an
+     *         unknown language identifier or a sort identifier that is not valid for the language
+     */
+    public static short encode(int lcid) {
+        if ((lcid & ~(Lcid.LANGUAGE_ID_MASK | Lcid.SORT_FIELD_MASK << Lcid.SORT_ID_SHIFT)) != 0) {
+            return NULL_CODE;
+        }
+        LanguageID languageID = LanguageID.lookupByLcid(Lcid.languageIdOf(lcid));
+        if (languageID == null) {
+            return NULL_CODE;
+        }
+        return Tables.CODE_BY_SLOT[languageID.ordinal() * SORT_ID_RANGE + Lcid.sortIdOf(lcid)];
+    }
+
+    /**
+     * Decodes a code.
+     *
+     * @param code the code
+     * @return the LCID, or {@link Lcid#INVALID} for {@link #NULL_CODE} and codes out of range
+     */
+    public static int decode(short code) {
+        int index = Short.toUnsignedInt(code);
+        int[] lcids = Tables.LCID_BY_CODE;
+        return index < lcids.length ? lcids[index] : Lcid.INVALID;
+    }
+
+    /**
+     * Encodes the LCID of a Locale with default sort.
+     *
+     * @param locale the Locale, may be null
+     * @return the code, or {@link #NULL_CODE} if the Locale is null or not the Locale of a
+     *         {@link LanguageID}
+     */
+    public static short encodeLocale(Locale locale) {
+        LanguageID languageID = locale != null ? LanguageID.lookupByLocale(locale) : null;
+        return languageID != null ? Tables.CODE_BY_SLOT[languageID.ordinal() * SORT_ID_RANGE] : NULL_CODE;
+    }
+
+    /**
+     * Decodes a code to the Locale of its language identifier.
+     *
+     * @param code the code
+     * @return the canonical Locale, or null for {@link #NULL_CODE}, codes out of range and language
+     *         identifiers without Locale
+     */
+    public static Locale decodeLocaleOrNull(short code) {
+        int lcid = decode(code);
+        if (lcid == Lcid.INVALID) {
+            return null;
+        }
+        return LanguageID.lookupByLcid(Lcid.languageIdOf(lcid)).getLocaleOrNull();
+    }
+
+    /**
+     * Encodes a range of LCIDs.
+     *
+     * @param lcids       the LCIDs
+     * @param lcidsOffset the index of the first LCID
+     * @param codes       receives the codes
+     * @param codesOffset the index of the first code
+     * @param length      the number of LCIDs
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static void encode(int[] lcids, int lcidsOffset, short[] codes, int codesOffset, int length) {
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        Objects.checkFromIndexSize(codesOffset, length, codes.length);
+        for (int i = 0; i < length; i++) {
+            codes[codesOffset + i] = encode(lcids[lcidsOffset + i]);
+        }
+    }
+
+    /**
+     * Decodes a range of codes.
+     *
+     * @param codes       the codes
+     * @param codesOffset the index of the first code
+     * @param lcids       receives the LCIDs
+     * @param lcidsOffset the index of the first LCID
+     * @param length      the number of codes
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static void decode(short[] codes, int codesOffset, int[] lcids, int lcidsOffset, int length) {
+        Objects.checkFromIndexSize(codesOffset, length, codes.length);
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        int[] table = Tables.LCID_BY_CODE;
+        for (int i = 0; i < length; i++) {
+            int index = Short.toUnsignedInt(codes[codesOffset + i]);
+            lcids[lcidsOffset + i] = index < table.length ? table[index] : Lcid.INVALID;
+        }
+    }
+
+    /**
+     * Encodes the remaining LCIDs of a buffer.
+     * <p>
+     * The buffers may be views of direct or memory-mapped byte buffers, so columns stored off-heap are
+     * encoded without copying them to arrays. Both positions are advanced past the converted values.
+     * </p>
+     *
+     * @param lcids the buffer holding the LCIDs
+     * @param codes the buffer receiving the codes
+     * @throws BufferOverflowException if {@code codes} cannot hold all remaining LCIDs, no value is
+     *                                 converted
+     */
+    public static void encode(IntBuffer lcids, ShortBuffer codes) {
+        int length = lcids.remaining();
+        if (codes.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            codes.put(encode(lcids.get()));
+        }
+    }
+
+    /**
+     * Decodes the remaining codes of a buffer.
+     * <p>
+     * Both positions are advanced past the converted values.
+     * </p>
+     *
+     * @param codes the buffer holding the codes
+     * @param lcids the buffer receiving the LCIDs
+     * @throws BufferOverflowException if {@code lcids} cannot hold all remaining codes, no value is
+     *                                 converted
+     */
+    public static void decode(ShortBuffer codes, IntBuffer lcids) {
+        int length = codes.remaining();
+        if (lcids.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            lcids.put(decode(codes.get()));
+        }
+    }
+
+    /**
+     * Packs a range of codes into {@link #bitsPerCode()} bits each.
+     * <p>
+     * Codes are stored from the least significant bit of the first word on and may span two words.
+     * </p>
+     *
+     * @param codes  the codes, each less than {@link #size()}
+     * @param offset the index of the first code
+     * @param length the number of codes
+     * @return the packed codes
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     * @throws IllegalArgumentException  if a code is out of range
+     */
+    public static long[] pack(short[] codes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, codes.length);
+        int bits = Tables.BITS_PER_CODE;
+        int size = size();
+        long[] packed = new long[(int) (((long) length * bits + Long.SIZE - 1) / Long.SIZE)];
+        long bitIndex = 0;
+        for (int i = 0; i < length; i++) {
+            int code = Short.toUnsignedInt(codes[offset + i]);
+            if (code >= size) {
+                throw new IllegalArgumentException("Code " + code + " at index " + (offset + i) + " is out of range");
+            }
+            int word = (int) (bitIndex >>> 6);
+            int shift = (int) (bitIndex & 63);
+            packed[word] |= (long) code << shift;
+            if (shift + bits > Long.SIZE) {
+                packed[word + 1] |= (long) code >>> (Long.SIZE - shift);
+            }
+            bitIndex += bits;
+        }
+        return packed;
+    }
+
+    /**
+     * Reads one code from packed codes.
+     *
+     * @param packed the packed codes
+     * @param index  the index of the code
+     * @return the code
+     * @throws IndexOutOfBoundsException if the index is beyond the packed codes
+     */
+    public static short unpack(long[] packed, int index) {
+        int bits = Tables.BITS_PER_CODE;
+        long bitIndex = (long) index * bits;
+        int word = (int) (bitIndex >>> 6);
+        int shift = (int) (bitIndex & 63);
+        long value = packed[word] >>> shift;
+        if (shift + bits > Long.SIZE) {
+            value |= packed[word + 1] << (Long.SIZE - shift);
+        }
+        return (short) (value & ((1L << bits) - 1));
+    }
+
+    /**
+     * Reads a range of codes from packed codes.
+     *
+     * @param packed     the packed codes
+     * @param index      the index of the first code
+     * @param codes      receives the codes
+     * @param codeOffset the index of the first code in the receiving array
+     * @param length     the number of codes
+     * @throws IndexOutOfBoundsException if a range is beyond the packed codes or the receiving array
+     */
+    public static void unpack(long[] packed, int index, short[] codes, int codeOffset, int length) {
+        Objects.checkFromIndexSize(codeOffset, length, codes.length);
+        for (int i = 0; i < length; i++) {
+            codes[codeOffset + i] = unpack(packed, index + i);
+        }
+    }
+
+}
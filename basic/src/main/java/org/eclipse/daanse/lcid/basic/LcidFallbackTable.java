@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidResolution.Step;
+
+/**
+ * Precomputed fallback resolution of every 16-bit language identifier, built on first use.
+ * <p>
+ * Each slot holds the shared {@link LcidResolution} of the language identifier treated as unsigned
+ * value, so resolving with fallback is a single array read. Known language identifiers resolve
+ * {@link Step#EXACT}; their {@link Step#SORT_STRIPPED} variants are kept in a second array indexed by
+ * {@link LanguageID} ordinal.
+ * </p>
+ */
+final class LcidFallbackTable {
+
+    /** Sub-language values of the script-neutral parents, such as {@code 0x7C04}, most common first. */
+    private static final int SCRIPT_PARENT_FIRST_SUB_LANGUAGE = 0x1F;
+    private static final int SCRIPT_PARENT_LAST_SUB_LANGUAGE = 0x19;
+
+    private static final LcidResolution[] BY_LANGUAGE_ID = build(languageId -> {
+        LanguageID languageID = LanguageID.lookupByLcid(languageId);
+        return languageID != null ? languageID.getLocaleOrNull() : null;
+    });
+
+    private static final LcidResolution[] SORT_STRIPPED = buildSortStripped();
+
+    private LcidFallbackTable() {
+    }
+
+    /**
+     * Gets the resolution of a language identifier.
+     *
+     * @param languageId the language identifier, 0 to 0xFFFF
+     * @return the shared resolution, never null
+     */
+    static LcidResolution forLanguageId(int languageId) {
+        return BY_LANGUAGE_ID[languageId];
+    }
+
+    /**
+     * Gets the resolution of a known language identifier whose sort bits were ignored.
+     *
+     * @param languageID the language identifier, must have a locale
+     * @return the shared resolution
+     */
+    static LcidResolution sortStripped(LanguageID languageID) {
+        return SORT_STRIPPED[languageID.ordinal()];
+    }
+
+    /**
+     * Builds the resolutions of all language identifiers.
+     *
+     * @param localeByLanguageId gives the Locale of a language identifier, or null if it has none
+     * @return the resolutions indexed by language identifier
+     */
+    static LcidResolution[] build(IntFunction<Locale> localeByLanguageId) {
+        LcidResolution[] byPrimaryLanguage = new LcidResolution[Lcid.PRIMARY_LANGUAGE_MASK + 1];
+        for (int primaryLanguage = 0; primaryLanguage <= Lcid.PRIMARY_LANGUAGE_MASK; primaryLanguage++) {
+            byPrimaryLanguage[primaryLanguage] = primaryLanguageFallback(primaryLanguage, localeByLanguageId);
+        }
+
+        LcidResolution[] table = new LcidResolution[LanguageID.LANGUAGE_ID_RANGE];
+        for (int languageId = 0; languageId < table.length; languageId++) {
+            Locale locale = localeByLanguageId.apply(languageId);
+            table[languageId] = locale != null ? new LcidResolution(languageId, locale, Step.EXACT)
+                    : byPrimaryLanguage[languageId & Lcid.PRIMARY_LANGUAGE_MASK];
+        }
+        return table;
+    }
+
+    /**
+     * Finds the resolution shared by all unknown language identifiers of a primary language.
+     */
+    private static LcidResolution primaryLanguageFallback(int primaryLanguage,
+            IntFunction<Locale> localeByLanguageId) {
+        Locale neutral = localeByLanguageId.apply(primaryLanguage);
+        if (neutral != null) {
+            return new LcidResolution(primaryLanguage, neutral, Step.NEUTRAL);
+        }
+        for (int subLanguage = SCRIPT_PARENT_FIRST_SUB_LANGUAGE; subLanguage >= SCRIPT_PARENT_LAST_SUB_LANGUAGE;
+                subLanguage--) {
+            int languageId = subLanguage << Lcid.PRIMARY_LANGUAGE_BITS | primaryLanguage;
+            Locale parent = localeByLanguageId.apply(languageId);
+            if (parent != null && parent.getCountry().isEmpty()) {
+                return new LcidResolution(languageId, parent, Step.SCRIPT_PARENT);
+            }
+        }
+        return LcidResolution.INVARIANT;
+    }
+
+    private static LcidResolution[] buildSortStripped() {
+        LanguageID[] languageIDs = LanguageID.values();
+        LcidResolution[] sortStripped = new LcidResolution[languageIDs.length];
+        for (LanguageID languageID : languageIDs) {
+            Locale locale = languageID.getLocaleOrNull();
+            if (locale != null) {
+                sortStripped[languageID.ordinal()] = new LcidResolution(
+                        Short.toUnsignedInt(languageID.getLanguageID()), locale, Step.SORT_STRIPPED);
+            }
+        }
+        return sortStripped;
+    }
+
+}
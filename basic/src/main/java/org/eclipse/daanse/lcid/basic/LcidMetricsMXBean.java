@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import org.eclipse.daanse.lcid.api.LcidMetrics;
+
+/**
+ * JMX management interface exposing the {@link LcidMetrics} of the {@link BasicLcidService}.
+ * <p>
+ * The service registers itself under {@value #OBJECT_NAME} in the platform MBean server while it is
+ * active.
+ * </p>
+ */
+public interface LcidMetricsMXBean extends LcidMetrics {
+
+    /** The JMX object name the metrics are registered under. */
+    String OBJECT_NAME = "org.eclipse.daanse.lcid:type=LcidMetrics,name=BasicLcidService";
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead conversion counters backed by {@link LongAdder}s.
+ * <p>
+ * Hits are additionally counted per {@link LanguageID}, in a slot indexed by its ordinal, so recording
+ * a hit never allocates.
+ * </p>
+ */
+final class LcidUsageCounters {
+
+    private static final LanguageID[] LANGUAGE_IDS = LanguageID.values();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder nullInputs = new LongAdder();
+    private final LongAdder[] usage = new LongAdder[LANGUAGE_IDS.length];
+
+    LcidUsageCounters() {
+        for (int i = 0; i < usage.length; i++) {
+            usage[i] = new LongAdder();
+        }
+    }
+
+    void recordHit(LanguageID languageID) {
+        hits.increment();
+        usage[languageID.ordinal()].increment();
+    }
+
+    /**
+     * Records the usage of a LanguageID whose hit is added in bulk by {@link #recordHits(long)}.
+     */
+    void recordUsage(LanguageID languageID) {
+        usage[languageID.ordinal()].increment();
+    }
+
+    void recordHits(long count) {
+        hits.add(count);
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordMisses(long count) {
+        misses.add(count);
+    }
+
+    void recordNullInput() {
+        nullInputs.increment();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long nullInputs() {
+        return nullInputs.sum();
+    }
+
+    Map<Integer, Long> usageByLanguageId() {
+        Map<Integer, Long> snapshot = new TreeMap<>();
+        for (int i = 0; i < usage.length; i++) {
+            long count = usage[i].sum();
+            if (count != 0) {
+                snapshot.put(Short.toUnsignedInt(LANGUAGE_IDS[i].getLanguageID()), count);
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Allocation-free parser of XMLA {@code LocaleIdentifier} values.
+ * <p>
+ * A value is accepted as decimal LCID ({@code 1033}), as hexadecimal LCID with a {@code 0x} prefix
+ * ({@code 0x0409}) or as language tag ({@code en-US}). Tags are matched case-insensitively against the
+ * BCP 47 language tags and Microsoft identifiers of {@link LanguageID}, with {@code -} and {@code _}
+ * treated alike, so {@code en_us} matches as well. Surrounding ASCII whitespace is ignored. Values are
+ * read from a {@link CharSequence} or an ASCII byte range, and no step of the parse allocates.
+ * </p>
+ * <p>
+ * Tags are looked up in an open-addressing hash table, built on first use, whose keys are the
+ * normalized tags: lower case, with {@code _} replaced by {@code -}. The input is hashed and compared
+ * in the same normalized form, character by character, without building a string.
+ * </p>
+ */
+public final class LocaleIdentifierParser {
+
+    /**
+     * Result of a value that could not be parsed. It is not a valid LCID because its reserved bits are
+     * set.
+     */
+    public static final int INVALID = Lcid.INVALID;
+
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private static final int MAX_HEX_DIGITS = 8;
+
+    private LocaleIdentifierParser() {
+    }
+
+    /**
+     * Hash table of the normalized language tags and Microsoft identifiers.
+     */
+    private static final class TagLookup {
+
+        private static final String[] KEYS;
+        private static final int[] LCIDS;
+        /** Slot to index into {@link #KEYS} plus one, 0 for an empty slot. */
+        private static final int[] SLOTS;
+        private static final int MASK;
+
+        static {
+            LanguageID[] languageIDs = LanguageID.values();
+            String[] keys = new String[languageIDs.length * 2];
+            int[] lcids = new int[keys.length];
+            int size = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+            int[] slots = new int[size];
+            int count = 0;
+            // tags first, so that they win over Microsoft identifiers with the same normalized form
+            for (int pass = 0; pass < 2; pass++) {
+                for (LanguageID languageID : languageIDs) {
+                    String tag = pass == 0 ? languageID.getLanguageTag().orElse(null)
+                            : languageID.getMsId();
+                    if (tag == null || tag.isEmpty()) {
+                        continue;
+                    }
+                    String key = normalizeTag(tag);
+                    int slot = hash(key, 0, key.length()) & (size - 1);
+                    boolean duplicate = false;
+                    while (slots[slot] != 0) {
+                        if (keys[slots[slot] - 1].equals(key)) {
+                            duplicate = true;
+                            break;
+                        }
+                        slot = (slot + 1) & (size - 1);
+                    }
+                    if (!duplicate) {
+                        keys[count] = key;
+                        lcids[count] = Short.toUnsignedInt(languageID.getLanguageID());
+                        slots[slot] = ++count;
+                    }
+                }
+            }
+            KEYS = Arrays.copyOf(keys, count);
+            LCIDS = Arrays.copyOf(lcids, count);
+            SLOTS = slots;
+            MASK = size - 1;
+        }
+
+        private static String normalizeTag(String tag) {
+            char[] chars = new char[tag.length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = normalize(tag.charAt(i));
+            }
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Parses a value.
+     *
+     * @param text the value
+     * @return the LCID, or {@link #INVALID} if the value is null or cannot be parsed
+     */
+    public static int parse(CharSequence text) {
+        return text == null ? INVALID : parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of a value.
+     *
+     * @param text  the text containing the value
+     * @param start the index of the first character of the value
+     * @param end   the index after the last character of the value
+     * @return the LCID, or {@link #INVALID} if the value cannot be parsed
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code text}
+     */
+    public static int parse(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        while (start < end && isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        char first = text.charAt(start);
+        if (first == '0' && end - start > 2 && (text.charAt(start + 1) | 0x20) == 'x') {
+            long value = 0;
+            if (end - start - 2 > MAX_HEX_DIGITS) {
+                return INVALID;
+            }
+            for (int i = start + 2; i < end; i++) {
+                int digit = hexDigit(text.charAt(i));
+                if (digit < 0) {
+                    return INVALID;
+                }
+                value = value << 4 | digit;
+            }
+            return (int) value;
+        }
+        if (isDigit(first)) {
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (!isDigit(c)) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+                if (value > 0xFFFFFFFFL) {
+                    return INVALID;
+                }
+            }
+            return (int) value;
+        }
+        return lookupTag(text, start, end);
+    }
+
+    /**
+     * Parses a value given as ASCII bytes, for example straight from a request buffer.
+     *
+     * @param bytes  the bytes containing the value
+     * @param offset the index of the first byte of the value
+     * @param length the number of bytes of the value
+     * @return the LCID, or {@link #INVALID} if the value cannot be parsed
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code bytes}
+     */
+    public static int parse(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace((char) bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace((char) bytes[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        byte first = bytes[start];
+        if (first == '0' && end - start > 2 && (bytes[start + 1] | 0x20) == 'x') {
+            long value = 0;
+            if (end - start - 2 > MAX_HEX_DIGITS) {
+                return INVALID;
+            }
+            for (int i = start + 2; i < end; i++) {
+                int digit = hexDigit(bytes[i]);
+                if (digit < 0) {
+                    return INVALID;
+                }
+                value = value << 4 | digit;
+            }
+            return (int) value;
+        }
+        if (isDigit((char) first)) {
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                byte b = bytes[i];
+                if (!isDigit((char) b)) {
+                    return INVALID;
+                }
+                value = value * 10 + (b - '0');
+                if (value > 0xFFFFFFFFL) {
+                    return INVALID;
+                }
+            }
+            return (int) value;
+        }
+        return lookupTag(bytes, start, end);
+    }
+
+    private static int lookupTag(CharSequence text, int start, int end) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c > 0x7F) {
+                return INVALID;
+            }
+            hash = (hash ^ normalize(c)) * FNV_PRIME;
+        }
+        int length = end - start;
+        for (int slot = hash & TagLookup.MASK; TagLookup.SLOTS[slot] != 0; slot = (slot + 1) & TagLookup.MASK) {
+            int index = TagLookup.SLOTS[slot] - 1;
+            String key = TagLookup.KEYS[index];
+            if (key.length() == length && matches(key, text, start)) {
+                return TagLookup.LCIDS[index];
+            }
+        }
+        return INVALID;
+    }
+
+    private static int lookupTag(byte[] bytes, int start, int end) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b < 0) {
+                return INVALID;
+            }
+            hash = (hash ^ normalize((char) b)) * FNV_PRIME;
+        }
+        int length = end - start;
+        for (int slot = hash & TagLookup.MASK; TagLookup.SLOTS[slot] != 0; slot = (slot + 1) & TagLookup.MASK) {
+            int index = TagLookup.SLOTS[slot] - 1;
+            String key = TagLookup.KEYS[index];
+            if (key.length() == length && matches(key, bytes, start)) {
+                return TagLookup.LCIDS[index];
+            }
+        }
+        return INVALID;
+    }
+
+    private static boolean matches(String key, CharSequence text, int start) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != normalize(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String key, byte[] bytes, int start) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != normalize((char) bytes[start + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(String key, int start, int end) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Normalizes an ASCII character of a tag: upper case letters are lowered and {@code _} becomes
+     * {@code -}.
+     */
+    private static char normalize(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return c == '_' ? '-' : c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Gets the value of an ASCII hexadecimal digit. Unlike {@link Character#digit(int, int)} this rejects
+     * non-ASCII digits and full-width letters, like {@link #isDigit(char)} does for decimal values.
+     *
+     * @return the value, or -1 if {@code c} is no ASCII hexadecimal digit
+     */
+    private static int hexDigit(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int lower = c | 0x20;
+        return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.NumberFormat;
+
+import org.eclipse.daanse.lcid.api.NumberFormatLease;
+
+/**
+ * Lock-free pool of copies of one {@link NumberFormat}.
+ * <p>
+ * Idle formats are kept in {@link IdleSlots}. Borrowing takes an idle format, or clones the prototype if
+ * there is none, and wraps it in a new lease. Returning puts the format back, or drops it if the pool is
+ * full, so the memory of a pool is bounded no matter how many threads borrow at once.
+ * </p>
+ */
+final class NumberFormatPool {
+
+    /**
+     * A lease that returns its format to the pool. Each borrow gets its own lease, so a lease closed
+     * twice can never return a format that has been lent again in the meantime.
+     */
+    private static final class PooledNumberFormat implements NumberFormatLease {
+
+        private final NumberFormatPool pool;
+        private NumberFormat numberFormat;
+
+        PooledNumberFormat(NumberFormatPool pool, NumberFormat numberFormat) {
+            this.pool = pool;
+            this.numberFormat = numberFormat;
+        }
+
+        @Override
+        public NumberFormat numberFormat() {
+            NumberFormat format = numberFormat;
+            if (format == null) {
+                throw new IllegalStateException("The number format lease is closed");
+            }
+            return format;
+        }
+
+        @Override
+        public void close() {
+            NumberFormat format = numberFormat;
+            if (format != null) {
+                numberFormat = null;
+                pool.release(format);
+            }
+        }
+    }
+
+    private final NumberFormat prototype;
+
+    private final IdleSlots<NumberFormat> idle;
+
+    /**
+     * Creates a pool.
+     *
+     * @param prototype the format copied for each lease, not used itself
+     * @param capacity  the number of idle formats kept, at least 1
+     */
+    NumberFormatPool(NumberFormat prototype, int capacity) {
+        this.prototype = prototype;
+        this.idle = new IdleSlots<>(capacity);
+    }
+
+    /**
+     * Borrows a format.
+     *
+     * @return a lease that must be closed
+     */
+    NumberFormatLease borrow() {
+        NumberFormat format = idle.take();
+        return new PooledNumberFormat(this, format != null ? format : (NumberFormat) prototype.clone());
+    }
+
+    private void release(NumberFormat format) {
+        idle.offer(format);
+    }
+
+}
@@ -13,12 +13,18 @@
  */
 package org.eclipse.daanse.lcid.basic;
 
+import java.util.Arrays;
+
 /**
  * Enumeration of Windows Sort Identifiers for LCID.
  * <p>
  * Sort identifiers specify the sorting and comparison behavior for text in a locale. Some sort
  * identifiers are restricted to specific language identifiers.
  * </p>
+ * <p>
+ * The restrictions are compiled on first use into a bit set of allowed sort identifiers per
+ * {@link LanguageID}, so validation is an array read and a bit test and never throws.
+ * </p>
  *
  * @see <a href= "https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-lcid/">MS-LCID:
  *      Windows Language Code Identifier (LCID) Reference</a>
@@ -47,6 +53,8 @@ public enum SortId {
     SORT_CHINESE_RADICALSTROKE((byte) 4, new short[] { 0x0404, 0x0C04, 0x1404 }), //
     SORT_JAPANESE_RADICALSTROKE((byte) 4, new short[] { 0x0411 });//
 
+    private static final SortId[] VALUES = values();
+
     private final byte value;
     private short[] restrictedLanguages;
 
@@ -80,6 +88,73 @@ public enum SortId {
         return restrictedLanguages;
     }
 
+    /**
+     * Allowed sort identifiers per language, built on first use from the restricted languages.
+     */
+    private static final class Restrictions {
+
+        /** Mask per {@link LanguageID} ordinal with the bit of each allowed SortId ordinal set. */
+        private static final int[] ALLOWED = new int[LanguageID.values().length];
+
+        /** Allowed SortId per LanguageID ordinal and numeric value, null where not allowed. */
+        private static final SortId[][] BY_VALUE = new SortId[ALLOWED.length][];
+
+        static {
+            SortId[] defaultOnly = new SortId[Lcid.SORT_FIELD_MASK + 1];
+            defaultOnly[SORT_DEFAULT.value] = SORT_DEFAULT;
+            Arrays.fill(ALLOWED, bit(SORT_DEFAULT));
+            Arrays.fill(BY_VALUE, defaultOnly);
+
+            for (SortId sortId : VALUES) {
+                if (sortId.restrictedLanguages == null) {
+                    continue;
+                }
+                for (short restriction : sortId.restrictedLanguages) {
+                    LanguageID languageID = LanguageID.lookupByLcid(restriction);
+                    if (languageID == null) {
+                        throw new IllegalStateException(
+                                "Sort " + sortId + " is restricted to unknown language " + restriction);
+                    }
+                    int ordinal = languageID.ordinal();
+                    ALLOWED[ordinal] |= bit(sortId);
+                    if (BY_VALUE[ordinal] == defaultOnly) {
+                        BY_VALUE[ordinal] = defaultOnly.clone();
+                    }
+                    // value 0 stays SORT_DEFAULT, the first restricted sort of any other value wins
+                    if (BY_VALUE[ordinal][sortId.value] == null) {
+                        BY_VALUE[ordinal][sortId.value] = sortId;
+                    }
+                }
+            }
+        }
+
+        private static int bit(SortId sortId) {
+            return 1 << sortId.ordinal();
+        }
+    }
+
+    /**
+     * Checks whether a sort identifier can be used with a given language identifier.
+     * <p>
+     * {@link #SORT_DEFAULT} is valid for every language identifier. A restricted sort identifier is
+     * only valid for its restricted languages.
+     * </p>
+     *
+     * @param languageId the language identifier
+     * @param sortId     the sort identifier, may be null
+     * @return true if the sort identifier is valid for the language
+     */
+    public static boolean isValid(short languageId, SortId sortId) {
+        if (sortId == SORT_DEFAULT) {
+            return true;
+        }
+        if (sortId == null) {
+            return false;
+        }
+        LanguageID languageID = LanguageID.lookupByLcid(languageId);
+        return languageID != null && (Restrictions.ALLOWED[languageID.ordinal()] & Restrictions.bit(sortId)) != 0;
+    }
+
     /**
      * Validates that a sort identifier can be used with a given language identifier.
      *
@@ -87,20 +162,34 @@ public enum SortId {
      * @param sortId     the sort identifier to validate
      * @return the validated sort identifier value
      * @throws IllegalArgumentException if the sort identifier is not valid for the language
+     * @see #isValid(short, SortId)
      */
     public static byte getValidatedValue(short languageId, SortId sortId) {
-        switch (sortId) {
-        case SORT_DEFAULT:
-            return sortId.getValue();
-        default:
-            for (short restriction : sortId.getRestrictedLanguages()) {
-                if (restriction == languageId) {
-                    return sortId.getValue();
-                }
-            }
+        if (!isValid(languageId, sortId)) {
             throw new IllegalArgumentException(
-                    "Unexpected sortId: '" + sortId.name() + "' for languageId '" + languageId + "'");
+                    "Unexpected sortId: '" + sortId + "' for languageId '" + languageId + "'");
+        }
+        return sortId.getValue();
+    }
+
+    /**
+     * Finds the sort identifier with a numeric value that can be used with a given language
+     * identifier.
+     *
+     * @param languageId the language identifier
+     * @param value      the numeric sort identifier value
+     * @return {@link #SORT_DEFAULT} for value 0, the matching restricted sort identifier otherwise, or
+     *         null if the value is not valid for the language
+     */
+    public static SortId lookup(short languageId, int value) {
+        if (value == SORT_DEFAULT.value) {
+            return SORT_DEFAULT;
+        }
+        if ((value & ~Lcid.SORT_FIELD_MASK) != 0) {
+            return null;
         }
+        LanguageID languageID = LanguageID.lookupByLcid(languageId);
+        return languageID != null ? Restrictions.BY_VALUE[languageID.ordinal()][value] : null;
     }
 
 }
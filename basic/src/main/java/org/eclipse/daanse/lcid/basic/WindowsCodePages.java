@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Locale;
+
+/**
+ * Default Windows ANSI and OEM code pages of the {@link LanguageID}s.
+ * <p>
+ * The code pages follow the Windows locale defaults ({@code LOCALE_IDEFAULTANSICODEPAGE} and
+ * {@code LOCALE_IDEFAULTCODEPAGE}). They are assigned per primary language, and the script of the
+ * Locale selects between the Latin and Cyrillic code pages of Serbian, Bosnian, Azerbaijani and Uzbek
+ * and between simplified and traditional Chinese. Languages that Windows supports only through
+ * Unicode, and languages written in a script the code page does not cover, have the code page
+ * {@value #NONE}. The code pages of all language identifiers are computed on first use.
+ * </p>
+ */
+final class WindowsCodePages {
+
+    /** Code page of languages without an ANSI or OEM code page. */
+    static final int NONE = 0;
+
+    /**
+     * Rows of ANSI code page, OEM code page and the primary languages using them.
+     */
+    private static final int[][] BY_PRIMARY_LANGUAGE = {
+            // Western European
+            { 1252, 850, 0x03, 0x06, 0x07, 0x09, 0x0A, 0x0B, 0x0C, 0x0F, 0x10, 0x13, 0x14, 0x16, 0x17, 0x1D, 0x21,
+                    0x2D, 0x2E, 0x32, 0x34, 0x35, 0x36, 0x38, 0x3B, 0x3C, 0x3E, 0x52, 0x56, 0x62, 0x6B, 0x6C, 0x6E,
+                    0x6F, 0x7A, 0x7C, 0x7E, 0x82, 0x83, 0x84, 0x88, 0x91 },
+            { 1252, 437, 0x41, 0x5D, 0x64, 0x68, 0x6A, 0x70, 0x87 },
+            // Central European
+            { 1250, 852, 0x05, 0x0E, 0x15, 0x18, 0x1A, 0x1B, 0x1C, 0x24, 0x42 },
+            // Cyrillic
+            { 1251, 866, 0x02, 0x19, 0x22, 0x23, 0x28, 0x2F, 0x3F, 0x40, 0x44, 0x50, 0x6D, 0x85 },
+            // Greek
+            { 1253, 737, 0x08 },
+            // Turkish
+            { 1254, 857, 0x1F, 0x2C, 0x43 },
+            // Hebrew
+            { 1255, 862, 0x0D },
+            // Arabic
+            { 1256, 720, 0x01, 0x20, 0x29, 0x80, 0x8C },
+            // Baltic
+            { 1257, 775, 0x25, 0x26, 0x27 },
+            // Vietnamese, Thai, Japanese, Korean
+            { 1258, 1258, 0x2A }, { 874, 874, 0x1E }, { 932, 932, 0x11 }, { 949, 949, 0x12 },
+            // Simplified Chinese, traditional Chinese is selected by script or country
+            { 936, 936, 0x04 } };
+
+    private static final int LANG_ENGLISH_US = 0x0409;
+
+    private static final int LANG_CHINESE = 0x04;
+
+    private static final int LANG_SERBIAN = 0x1A;
+
+    private static final int LANG_AZERBAIJANI = 0x2C;
+
+    private static final int LANG_UZBEK = 0x43;
+
+    /**
+     * Code pages per {@link LanguageID} ordinal, built on first use.
+     */
+    private static final class ByLanguage {
+
+        private static final int[] ANSI = new int[LanguageID.values().length];
+
+        private static final int[] OEM = new int[LanguageID.values().length];
+
+        static {
+            int[] byPrimary = new int[Lcid.PRIMARY_LANGUAGE_MASK + 1];
+            for (int[] row : BY_PRIMARY_LANGUAGE) {
+                for (int i = 2; i < row.length; i++) {
+                    byPrimary[row[i]] = row[0] << 16 | row[1];
+                }
+            }
+            for (LanguageID languageID : LanguageID.values()) {
+                int codePages = codePages(languageID, byPrimary);
+                ANSI[languageID.ordinal()] = codePages >>> 16;
+                OEM[languageID.ordinal()] = codePages & 0xFFFF;
+            }
+        }
+    }
+
+    private WindowsCodePages() {
+    }
+
+    /**
+     * Gets the default ANSI code page of a language identifier.
+     *
+     * @param languageID the language identifier
+     * @return the code page, or {@value #NONE} if the language has none
+     */
+    static int ansiCodePage(LanguageID languageID) {
+        return ByLanguage.ANSI[languageID.ordinal()];
+    }
+
+    /**
+     * Gets the default OEM code page of a language identifier.
+     *
+     * @param languageID the language identifier
+     * @return the code page, or {@value #NONE} if the language has none
+     */
+    static int oemCodePage(LanguageID languageID) {
+        return ByLanguage.OEM[languageID.ordinal()];
+    }
+
+    private static int codePages(LanguageID languageID, int[] byPrimary) {
+        int languageId = Short.toUnsignedInt(languageID.getLanguageID());
+        int primary = languageId & Lcid.PRIMARY_LANGUAGE_MASK;
+        int codePages = byPrimary[primary];
+        Locale locale = languageID.getLocaleOrNull();
+        if (codePages == NONE || locale == null) {
+            return codePages;
+        }
+        if (languageId == LANG_ENGLISH_US) {
+            return 1252 << 16 | 437;
+        }
+        if (primary == LANG_CHINESE) {
+            return isTraditionalChinese(locale) ? 950 << 16 | 950 : codePages;
+        }
+        String script = locale.getScript();
+        if (script.isEmpty() || script.equals(scriptOf(codePages >>> 16))) {
+            return codePages;
+        }
+        if ("Cyrl".equals(script)) {
+            if (primary == LANG_SERBIAN) {
+                return 1251 << 16 | 855;
+            }
+            if (primary == LANG_AZERBAIJANI || primary == LANG_UZBEK) {
+                return 1251 << 16 | 866;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets the ISO 15924 script that an ANSI code page of the table covers.
+     */
+    private static String scriptOf(int ansiCodePage) {
+        return switch (ansiCodePage) {
+        case 1251 -> "Cyrl";
+        case 1253 -> "Grek";
+        case 1255 -> "Hebr";
+        case 1256 -> "Arab";
+        case 874 -> "Thai";
+        case 932 -> "Jpan";
+        case 949 -> "Kore";
+        default -> "Latn";
+        };
+    }
+
+    private static boolean isTraditionalChinese(Locale locale) {
+        if (!locale.getScript().isEmpty()) {
+            return "Hant".equals(locale.getScript());
+        }
+        String country = locale.getCountry();
+        return "TW".equals(country) || "HK".equals(country) || "MO".equals(country);
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+
+import org.eclipse.daanse.lcid.api.CharsetDecoderLease;
+import org.eclipse.daanse.lcid.api.CharsetEncoderLease;
+import org.eclipse.daanse.lcid.api.CodePageType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicLcidCharsetProviderTest {
+
+    private final BasicLcidCharsetProvider provider = new BasicLcidCharsetProvider();
+
+    @Test
+    void testCodePages() {
+        assertCodePages(0x0409, 1252, 437);
+        assertCodePages(0x0407, 1252, 850);
+        assertCodePages(0x00010407, 1252, 850);
+        assertCodePages(0x0405, 1250, 852);
+        assertCodePages(0x0419, 1251, 866);
+        assertCodePages(0x0408, 1253, 737);
+        assertCodePages(0x041F, 1254, 857);
+        assertCodePages(0x040D, 1255, 862);
+        assertCodePages(0x0401, 1256, 720);
+        assertCodePages(0x0427, 1257, 775);
+        assertCodePages(0x042A, 1258, 1258);
+        assertCodePages(0x041E, 874, 874);
+        assertCodePages(0x0411, 932, 932);
+        assertCodePages(0x0412, 949, 949);
+        assertCodePages(0x0804, 936, 936);
+        assertCodePages(0x0404, 950, 950);
+        assertCodePages(0x0C04, 950, 950);
+    }
+
+    @Test
+    void testScriptSelectsCodePage() {
+        // Serbian and Azerbaijani in Latin and Cyrillic script
+        assertCodePages(0x081A, 1250, 852);
+        assertCodePages(0x0C1A, 1251, 855);
+        assertCodePages(0x042C, 1254, 857);
+        assertCodePages(0x082C, 1251, 866);
+        // Mongolian in Cyrillic and traditional script
+        assertCodePages(0x0450, 1251, 866);
+        assertCodePages(0x0850, 0, 0);
+    }
+
+    @Test
+    void testUnicodeOnlyLanguage() {
+        assertCodePages(0x0439, 0, 0);
+        assertNull(provider.charsetOrNull(0x0439, CodePageType.ANSI));
+        assertNull(provider.borrowDecoderOrNull(0x0439, CodePageType.ANSI));
+        assertTrue(provider.charset(0x0439, CodePageType.OEM).isEmpty());
+    }
+
+    @Test
+    void testInvalidLcid() {
+        assertEquals(0, provider.codePage(0x7FFF, CodePageType.ANSI));
+        assertNull(provider.charsetOrNull(0x7FFF, CodePageType.ANSI));
+        assertNull(provider.borrowEncoderOrNull(0x00050409, CodePageType.OEM));
+    }
+
+    @Test
+    void testCharsets() {
+        assertEquals(Charset.forName("windows-1252"), provider.charsetOrNull(0x0407, CodePageType.ANSI));
+        assertEquals(Charset.forName("IBM850"), provider.charsetOrNull(0x0407, CodePageType.OEM));
+        assertEquals(Charset.forName("windows-31j"), provider.charsetOrNull(0x0411, CodePageType.ANSI));
+        assertEquals(Charset.forName("IBM866"), provider.charsetOrNull(0x0419, CodePageType.OEM));
+        // languages sharing a code page share the charset
+        assertSame(provider.charsetOrNull(0x0407, CodePageType.ANSI), provider.charsetOrNull(0x0409,
+                CodePageType.ANSI));
+    }
+
+    @Test
+    void testDecoderIsPooledAndReset() throws CharacterCodingException {
+        CharsetDecoder decoder;
+        try (CharsetDecoderLease lease = provider.borrowDecoderOrNull(0x0419, CodePageType.ANSI)) {
+            decoder = lease.decoder();
+            // "Привет" in windows-1251
+            byte[] bytes = { (byte) 0xCF, (byte) 0xF0, (byte) 0xE8, (byte) 0xE2, (byte) 0xE5, (byte) 0xF2 };
+            assertEquals("Привет", decoder.decode(ByteBuffer.wrap(bytes)).toString());
+        }
+        try (CharsetDecoderLease lease = provider.borrowDecoderOrNull(0x0419, CodePageType.ANSI)) {
+            assertSame(decoder, lease.decoder());
+        }
+    }
+
+    @Test
+    void testClosedLeaseThrows() {
+        CharsetEncoderLease lease = provider.borrowEncoderOrNull(0x0407, CodePageType.OEM);
+        lease.close();
+        lease.close();
+
+        assertThrows(IllegalStateException.class, lease::encoder);
+    }
+
+    @Test
+    void testStaleCloseDoesNotReturnLaterLease() {
+        CharsetDecoderLease stale = provider.borrowDecoderOrNull(0x0419, CodePageType.ANSI);
+        stale.close();
+        try (CharsetDecoderLease current = provider.borrowDecoderOrNull(0x0419, CodePageType.ANSI)) {
+            CharsetDecoder decoder = current.decoder();
+            stale.close();
+
+            assertThrows(IllegalStateException.class, stale::decoder);
+            try (CharsetDecoderLease other = provider.borrowDecoderOrNull(0x0419, CodePageType.ANSI)) {
+                assertNotSame(decoder, other.decoder());
+            }
+            assertSame(decoder, current.decoder());
+        }
+
+        CharsetEncoderLease staleEncoder = provider.borrowEncoderOrNull(0x0419, CodePageType.ANSI);
+        staleEncoder.close();
+        try (CharsetEncoderLease current = provider.borrowEncoderOrNull(0x0419, CodePageType.ANSI)) {
+            staleEncoder.close();
+            try (CharsetEncoderLease other = provider.borrowEncoderOrNull(0x0419, CodePageType.ANSI)) {
+                assertNotSame(current.encoder(), other.encoder());
+            }
+        }
+    }
+
+    @Test
+    void testEncoderReplacesUnmappable() throws CharacterCodingException {
+        try (CharsetEncoderLease lease = provider.borrowEncoderOrNull(0x0407, CodePageType.ANSI)) {
+            ByteBuffer bytes = lease.encoder().encode(CharBuffer.wrap("Grüße €Ж"));
+            assertEquals("Grüße €?", new String(bytes.array(), 0, bytes.limit(), Charset.forName("windows-1252")));
+        }
+    }
+
+    @Test
+    void testCharsetNames() {
+        assertEquals("windows-1252", BasicLcidCharsetProvider.charsetName(1252));
+        assertEquals("windows-874", BasicLcidCharsetProvider.charsetName(874));
+        assertEquals("cp850", BasicLcidCharsetProvider.charsetName(850));
+    }
+
+    @Test
+    void testEveryLanguageHasSupportedOrNoCodePage() {
+        for (LanguageID languageID : LanguageID.values()) {
+            for (int codePage : new int[] { languageID.getAnsiCodePage(), languageID.getOemCodePage() }) {
+                // the Arabic OEM code page 720 has no charset in the JDK
+                if (codePage != 0 && codePage != 720) {
+                    assertTrue(Charset.isSupported(BasicLcidCharsetProvider.charsetName(codePage)),
+                            languageID + " " + codePage);
+                }
+            }
+        }
+    }
+
+    private void assertCodePages(int lcid, int ansi, int oem) {
+        assertEquals(ansi, provider.codePage(lcid, CodePageType.ANSI), "ANSI of " + Integer.toHexString(lcid));
+        assertEquals(oem, provider.codePage(lcid, CodePageType.OEM), "OEM of " + Integer.toHexString(lcid));
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicLcidComparatorFactoryTest {
+
+    private static final String ALPHABET = "aAbBcChHdDeEsSzZiIlLjJnNoOuUyY019 -_.,'";
+
+    private final BasicLcidComparatorFactory factory = new BasicLcidComparatorFactory();
+
+    private final BasicLcidService service = new BasicLcidService();
+
+    @Test
+    void testAgreesWithCollator() {
+        // includes contractions (cs, hu, da), dotted i (tr), phone book rules and French accents
+        for (int lcid : new int[] { 0x0409, 0x0407, 0x00010407, 0x041F, 0x0405, 0x040E, 0x0406, 0x0C0A, 0x0C0C,
+                0x041D, 0x0427, 0x0804 }) {
+            assertAgreesWithCollator(lcid);
+        }
+    }
+
+    private void assertAgreesWithCollator(int lcid) {
+        Comparator<String> comparator = factory.comparatorOrNull(lcid);
+        Collator collator = service.lcidToCollator(lcid);
+        List<String> strings = randomStrings(new Random(lcid), 400);
+        strings.addAll(List.of("", "a", "A", "ab", "Ab", "aB", "ä", "Äpfel", "Apfel", "Aepfel", "chata", "hrad",
+                "cukr", "Ilk", "ılık", "İlk", "istanbul", "aa", "ab", "zz", "dzs", "dz", "cs", "co-op", "coop"));
+
+        for (String a : strings) {
+            for (String b : strings) {
+                // collation keys are the reference, Collator.compare differs from them for some ignorables
+                int expected = Integer.signum(collator.getCollationKey(a).compareTo(collator.getCollationKey(b)));
+                if (expected != Integer.signum(comparator.compare(a, b))) {
+                    fail(Integer.toHexString(lcid) + ": '" + a + "' vs '" + b + "' should be " + expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCombiningMarksAfterAsciiLetters() {
+        // Nordic collators contract a letter and a combining mark into a letter sorted after "z"
+        List<String> strings = List.of("a\u030A", "A\u030Angstr\u00F6m", "a\u0308", "o\u0308", "o\u0338", "b", "p",
+                "z", "\u00E5", "\u00F8", "ab", "ob");
+        for (int lcid : new int[] { 0x041D, 0x040B, 0x0406, 0x0414, 0x0814 }) {
+            Comparator<String> comparator = factory.comparatorOrNull(lcid);
+            Collator collator = service.lcidToCollator(lcid);
+            for (String a : strings) {
+                for (String b : strings) {
+                    int expected = Integer.signum(collator.getCollationKey(a).compareTo(collator.getCollationKey(b)));
+                    if (expected != Integer.signum(comparator.compare(a, b))) {
+                        fail(Integer.toHexString(lcid) + ": '" + a + "' vs '" + b + "' should be " + expected);
+                    }
+                }
+            }
+            List<String> sorted = new ArrayList<>(strings);
+            sorted.sort(comparator);
+            assertTrue(comparator.compare(sorted.get(sorted.size() - 1), "z") > 0);
+        }
+    }
+
+    @Test
+    void testEnglishUsesAsciiFastPath() {
+        CollationComparator comparator = factory.collationComparatorOrNull(0x0409);
+
+        assertTrue(comparator.hasAsciiFastPath());
+        assertTrue(comparator.compare("apple", "Banana") < 0);
+        assertTrue(comparator.compare("apple", "Apple") < 0);
+        assertEquals(0, comparator.collationKeyCount());
+    }
+
+    @Test
+    void testNonAsciiUsesCollationKeys() {
+        CollationComparator comparator = factory.collationComparatorOrNull(0x0407);
+
+        assertTrue(comparator.compare("Äpfel", "Birnen") < 0);
+        assertEquals(2, comparator.collationKeyCount());
+        comparator.compare("Äpfel", "Birnen");
+        assertEquals(2, comparator.collationKeyCount());
+    }
+
+    @Test
+    void testSortIdSelectsComparator() {
+        Comparator<String> standard = factory.comparatorOrNull(0x0407);
+        Comparator<String> phoneBook = factory.comparatorOrNull(0x00010407);
+
+        assertNotSame(standard, phoneBook);
+        assertSame(phoneBook, factory.comparatorOrNull(0x00010407));
+        assertTrue(standard.compare("Müller", "Muff") > 0);
+        // phone book order sorts "ü" as "ue"
+        assertTrue(phoneBook.compare("Müller", "Muff") < 0);
+    }
+
+    @Test
+    void testKeyCacheIsBounded() {
+        BasicLcidComparatorFactory small = new BasicLcidComparatorFactory(16);
+        CollationComparator comparator = small.collationComparatorOrNull(0x0407);
+
+        for (int i = 0; i < 100; i++) {
+            comparator.compare("ä" + i, "ö" + i);
+        }
+
+        assertTrue(comparator.collationKeyCount() <= 16);
+    }
+
+    @Test
+    void testInvalidLcid() {
+        assertNull(factory.comparatorOrNull(0x7FFF));
+        assertNull(factory.comparatorOrNull(0x00050409));
+        assertTrue(factory.comparator(0x7FFF).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new BasicLcidComparatorFactory(0));
+    }
+
+    private static List<String> randomStrings(Random random, int count) {
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(6);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            strings.add(sb.toString());
+        }
+        return strings;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+
+import org.eclipse.daanse.lcid.api.NumberFormatLease;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicLcidFormatterProviderTest {
+
+    private final BasicLcidFormatterProvider provider = new BasicLcidFormatterProvider();
+
+    @Test
+    void testDateTimeFormatterIsShared() {
+        DateTimeFormatter formatter = provider.dateTimeFormatterOrNull(0x0407, "d. MMMM yyyy");
+
+        assertEquals("3. März 2025", formatter.format(LocalDate.of(2025, 3, 3)));
+        assertSame(formatter, provider.dateTimeFormatterOrNull(0x0407, "d. MMMM yyyy"));
+        assertSame(formatter, provider.dateTimeFormatterOrNull(0x00010407, "d. MMMM yyyy"));
+        assertNotSame(formatter, provider.dateTimeFormatterOrNull(0x0409, "d. MMMM yyyy"));
+    }
+
+    @Test
+    void testLocalizedDateTimeFormatter() {
+        DateTimeFormatter formatter = provider.localizedDateTimeFormatterOrNull(0x0407, FormatStyle.MEDIUM, null);
+
+        assertEquals("03.03.2025", formatter.format(LocalDate.of(2025, 3, 3)));
+        assertSame(formatter, provider.localizedDateTimeFormatterOrNull(0x0407, FormatStyle.MEDIUM, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> provider.localizedDateTimeFormatterOrNull(0x0407, null, null));
+    }
+
+    @Test
+    void testNumberFormatOfPattern() {
+        try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(0x0407, "#,##0.00")) {
+            assertEquals("1.234,50", lease.numberFormat().format(1234.5));
+        }
+        try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(0x0409, null)) {
+            assertEquals("1,234.5", lease.numberFormat().format(1234.5));
+        }
+    }
+
+    @Test
+    void testNumberFormatIsReusedAfterClose() {
+        NumberFormat first;
+        try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(0x0407, "0.0")) {
+            first = lease.numberFormat();
+        }
+        try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(0x0407, "0.0")) {
+            assertSame(first, lease.numberFormat());
+        }
+    }
+
+    @Test
+    void testConcurrentLeasesGetDistinctFormats() {
+        try (NumberFormatLease first = provider.borrowNumberFormatOrNull(0x0407, "0.0");
+                NumberFormatLease second = provider.borrowNumberFormatOrNull(0x0407, "0.0")) {
+            assertNotSame(first.numberFormat(), second.numberFormat());
+        }
+    }
+
+    @Test
+    void testClosedLeaseCannotBeUsed() {
+        NumberFormatLease lease = provider.borrowNumberFormatOrNull(0x0407, "0.0");
+        lease.close();
+        lease.close();
+
+        assertThrows(IllegalStateException.class, lease::numberFormat);
+    }
+
+    @Test
+    void testStaleCloseDoesNotReturnLaterLease() {
+        NumberFormatLease stale = provider.borrowNumberFormatOrNull(0x0407, "0.0");
+        stale.close();
+        try (NumberFormatLease current = provider.borrowNumberFormatOrNull(0x0407, "0.0")) {
+            NumberFormat format = current.numberFormat();
+            stale.close();
+
+            assertThrows(IllegalStateException.class, stale::numberFormat);
+            try (NumberFormatLease other = provider.borrowNumberFormatOrNull(0x0407, "0.0")) {
+                assertNotSame(format, other.numberFormat());
+            }
+            assertSame(format, current.numberFormat());
+        }
+    }
+
+    @Test
+    void testCachesAreBounded() {
+        BasicLcidFormatterProvider bounded = new BasicLcidFormatterProvider(8, 2);
+        for (int i = 0; i < 100; i++) {
+            String pattern = "0." + "0".repeat(i % 50) + (i < 50 ? "" : "#");
+            bounded.dateTimeFormatterOrNull(0x0407, "yyyy" + "-".repeat(i));
+            bounded.borrowNumberFormatOrNull(0x0407, pattern).close();
+        }
+
+        assertTrue(bounded.dateTimeFormatterCount() <= 8);
+        assertTrue(bounded.numberFormatPoolCount() <= 8);
+    }
+
+    @Test
+    void testUsedEntriesSurviveEviction() {
+        BasicLcidFormatterProvider bounded = new BasicLcidFormatterProvider(8, 2);
+        DateTimeFormatter hot = bounded.dateTimeFormatterOrNull(0x0407, "yyyy");
+        for (int i = 1; i < 100; i++) {
+            assertSame(hot, bounded.dateTimeFormatterOrNull(0x0407, "yyyy"));
+            bounded.dateTimeFormatterOrNull(0x0407, "yyyy" + "-".repeat(i));
+        }
+        assertSame(hot, bounded.dateTimeFormatterOrNull(0x0407, "yyyy"));
+    }
+
+    @Test
+    void testUnknownLcid() {
+        assertNull(provider.dateTimeFormatterOrNull(0x9999, "yyyy"));
+        assertNull(provider.localizedDateTimeFormatterOrNull(0x9999, FormatStyle.SHORT, null));
+        assertNull(provider.borrowNumberFormatOrNull(0x9999, "0.0"));
+    }
+
+    @Test
+    void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> provider.dateTimeFormatterOrNull(0x0407, "{"));
+        assertThrows(IllegalArgumentException.class, () -> provider.borrowNumberFormatOrNull(0x0407, "0.0.0"));
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.daanse.lcid.api.LcidFormattingSymbols;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicLcidFormattingContextTest {
+
+    private final BasicLcidFormattingContext context = new BasicLcidFormattingContext();
+
+    @Test
+    void testGermanSymbols() {
+        LcidFormattingSymbols symbols = context.formattingSymbolsOrNull(0x0407);
+
+        assertNotNull(symbols);
+        assertEquals(Locale.forLanguageTag("de-DE"), symbols.getLocale());
+        assertEquals(',', symbols.getDecimalSeparator());
+        assertEquals('.', symbols.getGroupingSeparator());
+        assertEquals(Optional.of(Currency.getInstance("EUR")), symbols.getCurrency());
+        assertEquals("Januar", symbols.getDateFormatSymbols().getMonths()[0]);
+    }
+
+    @Test
+    void testSymbolsAreSharedPerLanguage() {
+        LcidFormattingSymbols symbols = context.formattingSymbolsOrNull(0x0407);
+
+        assertSame(symbols, context.formattingSymbolsOrNull(0x0407));
+        // the phone book sort shares the symbols of the language
+        assertSame(symbols, context.formattingSymbolsOrNull(0x00010407));
+        assertNotSame(symbols, context.formattingSymbolsOrNull(0x0409));
+    }
+
+    @Test
+    void testSymbolsCannotBeModifiedThroughGetters() {
+        LcidFormattingSymbols symbols = context.formattingSymbolsOrNull(0x0409);
+
+        DecimalFormatSymbols copy = symbols.getDecimalFormatSymbols();
+        copy.setDecimalSeparator('#');
+        symbols.getDateFormatSymbols().setMonths(new String[13]);
+
+        assertEquals('.', symbols.getDecimalSeparator());
+        assertEquals('.', symbols.getDecimalFormatSymbols().getDecimalSeparator());
+        assertEquals("January", symbols.getDateFormatSymbols().getMonths()[0]);
+    }
+
+    @Test
+    void testNeutralLanguageHasNoCurrency() {
+        LcidFormattingSymbols symbols = context.formattingSymbolsOrNull(0x0007);
+
+        assertNotNull(symbols);
+        assertEquals(Optional.empty(), symbols.getCurrency());
+    }
+
+    @Test
+    void testUnknownLcid() {
+        assertNull(context.formattingSymbolsOrNull(0x9999));
+        assertNull(context.formattingSymbolsOrNull(0x00050407));
+        assertEquals(Optional.empty(), context.formattingSymbols(0x9999));
+    }
+
+}
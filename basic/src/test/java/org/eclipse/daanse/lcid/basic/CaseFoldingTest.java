@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaseFoldingTest {
+
+    private static final int EN_US = 0x0409;
+    private static final int TR_TR = 0x041F;
+    private static final int AZ_LATN_AZ = 0x042C;
+
+    @Test
+    void testForLcid() {
+        assertEquals(CaseFolding.DEFAULT, CaseFolding.forLcid(EN_US));
+        assertEquals(CaseFolding.TURKIC, CaseFolding.forLcid(TR_TR));
+        assertEquals(CaseFolding.TURKIC, CaseFolding.forLcid(0x001F));
+        assertEquals(CaseFolding.TURKIC, CaseFolding.forLcid(AZ_LATN_AZ));
+        assertEquals(CaseFolding.DEFAULT, CaseFolding.forLcid(0x9999));
+    }
+
+    @Test
+    void testDefaultFolding() {
+        assertTrue(CaseFolding.equalsIgnoreCase("[Measures].[Unit Sales]", "[MEASURES].[unit sales]", EN_US));
+        assertTrue(CaseFolding.equalsIgnoreCase("title", "TITLE", EN_US));
+        assertTrue(CaseFolding.equalsIgnoreCase("Straße", "STRAßE", EN_US));
+        assertTrue(CaseFolding.equalsIgnoreCase("Αθήνα", "ΑΘΉΝΑ", EN_US));
+        assertFalse(CaseFolding.equalsIgnoreCase("title", "titles", EN_US));
+        assertFalse(CaseFolding.equalsIgnoreCase("title", "tixle", EN_US));
+    }
+
+    @Test
+    void testTurkicFolding() {
+        assertFalse(CaseFolding.equalsIgnoreCase("title", "TITLE", TR_TR));
+        assertTrue(CaseFolding.equalsIgnoreCase("title", "TİTLE", TR_TR));
+        assertTrue(CaseFolding.equalsIgnoreCase("ılık", "ILIK", TR_TR));
+        assertFalse(CaseFolding.equalsIgnoreCase("ılık", "ilik", TR_TR));
+        assertTrue(CaseFolding.equalsIgnoreCase("ılık", "ilik", EN_US));
+    }
+
+    @Test
+    void testAgreesWithToUpperCase() {
+        String[] words = { "istanbul", "İSTANBUL", "Istanbul", "ıspanak", "Köln", "ÆBLE", "été", "Ωμέγα" };
+        for (int lcid : new int[] { EN_US, TR_TR }) {
+            Locale locale = Locale.forLanguageTag(lcid == TR_TR ? "tr-TR" : "en-US");
+            for (String a : words) {
+                for (String b : words) {
+                    assertEquals(a.toUpperCase(locale).equals(b.toUpperCase(locale)),
+                            CaseFolding.equalsIgnoreCase(a, b, lcid), a + " / " + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testHashIsConsistentWithEquals() {
+        assertEquals(CaseFolding.hashIgnoreCase("Unit Sales", EN_US), CaseFolding.hashIgnoreCase("UNIT sales", EN_US));
+        assertEquals(CaseFolding.hashIgnoreCase("title", TR_TR), CaseFolding.hashIgnoreCase("TİTLE", TR_TR));
+        assertNotEquals(CaseFolding.hashIgnoreCase("title", TR_TR), CaseFolding.hashIgnoreCase("TITLE", TR_TR));
+        assertEquals(0, CaseFolding.hashIgnoreCase(null, EN_US));
+    }
+
+    @Test
+    void testNullsAndCharSequences() {
+        assertTrue(CaseFolding.DEFAULT.equalsIgnoreCase(null, null));
+        assertFalse(CaseFolding.DEFAULT.equalsIgnoreCase("a", null));
+        assertFalse(CaseFolding.DEFAULT.equalsIgnoreCase(null, "a"));
+        assertTrue(CaseFolding.DEFAULT.equalsIgnoreCase(new StringBuilder("Sales"), "sALES"));
+    }
+
+}
@@ -65,6 +65,31 @@ class LanguageIDTest {
         assertTrue(nullLocale.isEmpty()); // Entry with null language tag
     }
 
+    @Test
+    void testGetLocaleIsCanonical() {
+        assertSame(LanguageID.LANG_0409.getLocale(), LanguageID.LANG_0409.getLocale());
+        assertSame(LanguageID.LANG_0409.getLocaleOrNull(), LanguageID.LANG_0409.getLocale().get());
+        assertNull(LanguageID.LANG_007B.getLocaleOrNull());
+    }
+
+    @Test
+    void testGetLocaleWithScript() {
+        Locale zhHans = LanguageID.LANG_0004.getLocaleOrNull();
+        assertEquals(Locale.forLanguageTag("zh-Hans"), zhHans);
+        assertEquals("zh", zhHans.getLanguage());
+        assertEquals("Hans", zhHans.getScript());
+        assertEquals("", zhHans.getCountry());
+
+        Locale srLatnRs = LanguageID.LANG_241A.getLocaleOrNull();
+        assertEquals("Latn", srLatnRs.getScript());
+        assertEquals("RS", srLatnRs.getCountry());
+    }
+
+    @Test
+    void testGetLocaleFromMsIdWithoutLanguageTag() {
+        assertEquals(Locale.forLanguageTag("fr-015"), LanguageID.LANG_E40C.getLocaleOrNull());
+    }
+
     @Test
     void testLookupByLanguageTag() {
         assertEquals(LanguageID.LANG_0409, LanguageID.lookupByLanguageTag("en-US"));
@@ -74,6 +99,16 @@ class LanguageIDTest {
         assertNull(LanguageID.lookupByLanguageTag(null));
     }
 
+    @Test
+    void testLookupByLocale() {
+        assertEquals(LanguageID.LANG_0409, LanguageID.lookupByLocale(Locale.US));
+        assertEquals(LanguageID.LANG_0407, LanguageID.lookupByLocale(Locale.of("de", "DE")));
+        assertEquals(LanguageID.LANG_7C04, LanguageID.lookupByLocale(Locale.forLanguageTag("zh-Hant")));
+        assertEquals(LanguageID.LANG_0407, LanguageID.lookupByLocale(Locale.forLanguageTag("de-DE-u-co-phonebk")));
+        assertNull(LanguageID.lookupByLocale(Locale.forLanguageTag("xx-YY")));
+        assertNull(LanguageID.lookupByLocale(null));
+    }
+
     @Test
     void testLookupByLcid() {
         assertEquals(LanguageID.LANG_0409, LanguageID.lookupByLcid((short) 0x0409));
@@ -82,6 +117,31 @@ class LanguageIDTest {
         assertNull(LanguageID.lookupByLcid((short) 0x9999)); // Non-existent LCID
     }
 
+    @Test
+    void testLookupByLcidInt() {
+        assertEquals(LanguageID.LANG_0409, LanguageID.lookupByLcid(0x0409));
+        assertEquals(LanguageID.LANG_7C04, LanguageID.lookupByLcid(0x7C04));
+        assertNull(LanguageID.lookupByLcid(0x9999));
+        assertNull(LanguageID.lookupByLcid(0x10407)); // sort identifier bits set
+        assertNull(LanguageID.lookupByLcid(-1));
+    }
+
+    @Test
+    void testLookupByLcidHighLanguageIds() {
+        // Language IDs above 0x7FFF are negative as short
+        assertEquals(LanguageID.LANG_F2EE, LanguageID.lookupByLcid((short) 0xF2EE));
+        assertEquals(LanguageID.LANG_F2EE, LanguageID.lookupByLcid(0xF2EE));
+        assertEquals(LanguageID.LANG_E40C, LanguageID.lookupByLcid((short) 0xE40C));
+    }
+
+    @Test
+    void testLookupByLcidCoversAllValues() {
+        for (LanguageID langId : LanguageID.values()) {
+            assertSame(langId, LanguageID.lookupByLcid(langId.getLanguageID()));
+            assertSame(langId, LanguageID.lookupByLcid(Short.toUnsignedInt(langId.getLanguageID())));
+        }
+    }
+
     @Test
     void testPrimaryLanguageLookup() {
         // Test primary language codes (0x0001-0x0093)
@@ -164,6 +224,16 @@ class LanguageIDTest {
         }
     }
 
+    @Test
+    void testConstantsMatchGeneratedTable() {
+        assertEquals(LanguageIDTable.SIZE, LanguageID.values().length);
+        for (LanguageID langId : LanguageID.values()) {
+            String expectedName = String.format("LANG_%04X", Short.toUnsignedInt(langId.getLanguageID()));
+            assertTrue(expectedName.equalsIgnoreCase(langId.name()),
+                    "Constant " + langId.name() + " is out of order with the data file");
+        }
+    }
+
     @Test
     void testAllEnumValues() {
         // Ensure all enum values have valid language IDs
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.daanse.lcid.api.LcidConversionEvent;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidConversionEventTest {
+
+    @Test
+    void testEventIsDisabledByDefault() {
+        assertFalse(EventType.getEventType(LcidConversionEvent.class).isEnabled());
+    }
+
+    @Test
+    void testEventsAreRecordedWhenEnabled() throws Exception {
+        BasicLcidService service = new BasicLcidService();
+        Path file = Files.createTempFile("lcid", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(LcidConversionEvent.NAME);
+            recording.start();
+
+            service.lcidToLocale(Optional.of(0x0407));
+            service.lcidToLocaleOrNull(0x9999);
+            service.lcidToLocale(0x9999, Locale.ROOT);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(LcidConversionEvent.NAME)).toList();
+            assertEquals(3, events.size());
+
+            assertEquals(BasicLcidService.class.getName(), events.get(0).getClass("service").getName());
+            assertEquals(0x0407, events.get(0).getInt("lcid"));
+            assertEquals("de-DE", events.get(0).getString("languageTag"));
+            assertEquals(LcidConversionEvent.HIT, events.get(0).getString("outcome"));
+
+            assertEquals(0x9999, events.get(1).getInt("lcid"));
+            assertNull(events.get(1).getString("languageTag"));
+            assertEquals(LcidConversionEvent.MISS, events.get(1).getString("outcome"));
+
+            assertEquals("und", events.get(2).getString("languageTag"));
+            assertEquals(LcidConversionEvent.FALLBACK, events.get(2).getString("outcome"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
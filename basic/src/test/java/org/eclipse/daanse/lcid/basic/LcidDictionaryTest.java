@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidDictionaryTest {
+
+    @Test
+    void testRoundTripOfAllCodes() {
+        Set<Integer> lcids = new HashSet<>();
+        for (int code = 1; code < LcidDictionary.size(); code++) {
+            int lcid = LcidDictionary.decode((short) code);
+            assertNotEquals(Lcid.INVALID, lcid);
+            assertTrue(lcids.add(lcid), "duplicate LCID " + Integer.toHexString(lcid));
+            assertEquals(code, LcidDictionary.encode(lcid));
+        }
+        assertEquals(LanguageID.values().length, lcids.stream().filter(lcid -> Lcid.sortIdOf(lcid) == 0).count());
+    }
+
+    @Test
+    void testDefaultSortCodes() {
+        LanguageID[] languageIDs = LanguageID.values();
+        for (LanguageID languageID : languageIDs) {
+            assertEquals(languageID.ordinal() + 1,
+                    LcidDictionary.encode(Short.toUnsignedInt(languageID.getLanguageID())));
+        }
+        assertEquals(0x0407, LcidDictionary.decode(LcidDictionary.encode(0x0407)));
+        assertEquals(0x00010407, LcidDictionary.decode(LcidDictionary.encode(0x00010407)));
+    }
+
+    @Test
+    void testNullCode() {
+        assertEquals(Lcid.INVALID, LcidDictionary.decode(LcidDictionary.NULL_CODE));
+        assertEquals(Lcid.INVALID, LcidDictionary.decode((short) LcidDictionary.size()));
+        assertEquals(Lcid.INVALID, LcidDictionary.decode((short) -1));
+        assertNull(LcidDictionary.decodeLocaleOrNull(LcidDictionary.NULL_CODE));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encode(Lcid.INVALID));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encode(0x7FFF));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encode(0x00050409));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encode(0x00100407));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encode(0x01000407));
+        assertEquals(LcidDictionary.NULL_CODE, LcidDictionary.encodeLocale(null));
+    }
+
+    @Test
+    void testLocale() {
+        short code = LcidDictionary.encodeLocale(Locale.GERMANY);
+        assertEquals(LcidDictionary.encode(0x0407), code);
+        assertEquals(Locale.GERMANY, LcidDictionary.decodeLocaleOrNull(code));
+        assertEquals(Locale.GERMANY, LcidDictionary.decodeLocaleOrNull(LcidDictionary.encode(0x00010407)));
+    }
+
+    @Test
+    void testBulkArrays() {
+        int[] lcids = { 0, 0x0409, 0x0407, 0x7FFF, 0x00010407, 0x0411, 0 };
+        short[] codes = new short[5];
+        LcidDictionary.encode(lcids, 1, codes, 0, 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(LcidDictionary.encode(lcids[i + 1]), codes[i]);
+        }
+        int[] decoded = new int[6];
+        LcidDictionary.decode(codes, 0, decoded, 1, 5);
+        assertArrayEquals(new int[] { 0, 0x0409, 0x0407, Lcid.INVALID, 0x00010407, 0x0411 }, decoded);
+        assertThrows(IndexOutOfBoundsException.class, () -> LcidDictionary.encode(lcids, 3, codes, 0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> LcidDictionary.decode(codes, 1, decoded, 0, 5));
+    }
+
+    @Test
+    void testBulkBuffers() {
+        int[] lcids = { 0x0409, 0x0C0A, 0x7FFF, 0x00040411 };
+        IntBuffer lcidBuffer = ByteBuffer.allocateDirect(lcids.length * Integer.BYTES).asIntBuffer();
+        ShortBuffer codeBuffer = ByteBuffer.allocateDirect(lcids.length * Short.BYTES).asShortBuffer();
+        lcidBuffer.put(lcids).flip();
+
+        LcidDictionary.encode(lcidBuffer, codeBuffer);
+        assertFalse(lcidBuffer.hasRemaining());
+        assertFalse(codeBuffer.hasRemaining());
+        for (int i = 0; i < lcids.length; i++) {
+            assertEquals(LcidDictionary.encode(lcids[i]), codeBuffer.get(i));
+        }
+
+        lcidBuffer.clear();
+        LcidDictionary.decode(codeBuffer.flip(), lcidBuffer);
+        assertEquals(0x0409, lcidBuffer.get(0));
+        assertEquals(0x0C0A, lcidBuffer.get(1));
+        assertEquals(Lcid.INVALID, lcidBuffer.get(2));
+        assertEquals(0x00040411, lcidBuffer.get(3));
+
+        IntBuffer tooMany = IntBuffer.wrap(new int[lcids.length + 1]);
+        assertThrows(BufferOverflowException.class, () -> LcidDictionary.encode(tooMany, codeBuffer.clear()));
+        assertEquals(0, tooMany.position());
+        assertEquals(0, codeBuffer.position());
+    }
+
+    @Test
+    void testPackUnpack() {
+        int bits = LcidDictionary.bitsPerCode();
+        assertTrue(bits < Short.SIZE);
+        assertTrue(1 << bits >= LcidDictionary.size());
+        short[] codes = new short[1000];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (short) ((i * 31) % LcidDictionary.size());
+        }
+        long[] packed = LcidDictionary.pack(codes, 0, codes.length);
+        assertEquals((codes.length * bits + 63) / 64, packed.length);
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals(codes[i], LcidDictionary.unpack(packed, i));
+        }
+        short[] unpacked = new short[codes.length + 2];
+        LcidDictionary.unpack(packed, 0, unpacked, 2, codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals(codes[i], unpacked[i + 2]);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> LcidDictionary.pack(new short[] { (short) LcidDictionary.size() }, 0, 1));
+    }
+
+}
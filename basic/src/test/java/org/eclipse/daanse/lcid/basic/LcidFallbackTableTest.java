@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidResolution.Step;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidFallbackTableTest {
+
+    @Test
+    void testScriptParentWhenPrimaryLanguageIsUnknown() {
+        Map<Integer, Locale> locales = Map.of(
+                0x0404, Locale.forLanguageTag("zh-TW"),
+                0x7C04, Locale.forLanguageTag("zh-Hant"),
+                0x7804, Locale.forLanguageTag("zh"));
+        LcidResolution[] table = LcidFallbackTable.build(locales::get);
+
+        assertEquals(Step.EXACT, table[0x0404].step());
+        assertEquals(new LcidResolution(0x7C04, Locale.forLanguageTag("zh-Hant"), Step.SCRIPT_PARENT), table[0x0C04]);
+        assertSame(table[0x0C04], table[0x0004]);
+    }
+
+    @Test
+    void testScriptParentSkipsRegionalLocales() {
+        Map<Integer, Locale> locales = Map.of(0x7C04, Locale.forLanguageTag("zh-TW"));
+        LcidResolution[] table = LcidFallbackTable.build(locales::get);
+
+        assertSame(LcidResolution.INVARIANT, table[0x0C04]);
+    }
+
+    @Test
+    void testNeutralBeforeScriptParent() {
+        Map<Integer, Locale> locales = Map.of(
+                0x0004, Locale.forLanguageTag("zh-Hans"),
+                0x7C04, Locale.forLanguageTag("zh-Hant"));
+        LcidResolution[] table = LcidFallbackTable.build(locales::get);
+
+        assertEquals(new LcidResolution(0x0004, Locale.forLanguageTag("zh-Hans"), Step.NEUTRAL), table[0x0C04]);
+    }
+
+    @Test
+    void testEveryLanguageIdResolves() {
+        for (int languageId = 0; languageId < LanguageID.LANGUAGE_ID_RANGE; languageId++) {
+            assertNotNull(LcidFallbackTable.forLanguageId(languageId));
+        }
+    }
+
+}
@@ -13,9 +13,19 @@
  */
 package org.eclipse.daanse.lcid.basic;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.text.Collator;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidResolution.Step;
 import org.eclipse.daanse.lcid.api.LcidService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -182,6 +192,180 @@ class LcidServiceImplTest {
         assertEquals("US", enUsResult.get().getCountry());
     }
 
+    @Test
+    void testLcidToLocaleWithScript() {
+        Optional<Locale> result = service.lcidToLocale(Optional.of(0x0004)); // "zh_hans"
+        assertTrue(result.isPresent());
+        assertEquals(Locale.forLanguageTag("zh-Hans"), result.get());
+        assertEquals("Hans", result.get().getScript());
+    }
+
+    @Test
+    void testLcidToLocaleReturnsCanonicalInstance() {
+        Optional<Locale> result1 = service.lcidToLocale(Optional.of(0x0409));
+        Optional<Locale> result2 = service.lcidToLocale(Optional.of(0x0409));
+
+        assertSame(result1, result2);
+        assertSame(LanguageID.LANG_0409.getLocaleOrNull(), result1.get());
+    }
+
+    @Test
+    void testLcidToLocaleOrNull() {
+        assertSame(LanguageID.LANG_0409.getLocaleOrNull(), service.lcidToLocaleOrNull(0x0409));
+        assertEquals(Locale.forLanguageTag("de-DE"), service.lcidToLocaleOrNull(0x0407));
+        assertNull(service.lcidToLocaleOrNull(0x9999));
+        assertNull(service.lcidToLocaleOrNull(0x007B)); // entry without locale
+    }
+
+    @Test
+    void testLcidToLocaleWithFallback() {
+        Locale fallback = Locale.ROOT;
+
+        assertSame(LanguageID.LANG_0407.getLocaleOrNull(), service.lcidToLocale(0x0407, fallback));
+        assertSame(fallback, service.lcidToLocale(0x9999, fallback));
+        assertSame(fallback, service.lcidToLocale(0x007B, fallback));
+    }
+
+    @Test
+    void testLocaleToLcid() {
+        assertEquals(OptionalInt.of(0x0409), service.localeToLcid(Locale.US));
+        assertEquals(OptionalInt.of(0x0407), service.localeToLcid(Locale.forLanguageTag("de-DE")));
+        assertEquals(OptionalInt.of(0x0004), service.localeToLcid(Locale.forLanguageTag("zh-Hans")));
+        assertEquals(OptionalInt.of(0x0009), service.localeToLcid(Locale.ENGLISH));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(Locale.forLanguageTag("xx-YY")));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(null));
+    }
+
+    @Test
+    void testLocaleToLcidWithFallback() {
+        assertEquals(0x0407, service.localeToLcid(Locale.forLanguageTag("de-DE-u-co-phonebk"), -1));
+        assertEquals(-1, service.localeToLcid(Locale.forLanguageTag("xx-YY"), -1));
+    }
+
+    @Test
+    void testLocaleRoundTrip() {
+        for (LanguageID languageID : LanguageID.values()) {
+            Locale locale = languageID.getLocaleOrNull();
+            if (locale != null) {
+                int lcid = service.localeToLcid(locale, -1);
+                assertEquals(Short.toUnsignedInt(languageID.getLanguageID()), lcid, languageID.name());
+                assertSame(locale, service.lcidToLocaleOrNull(lcid));
+            }
+        }
+    }
+
+    @Test
+    void testLcidToLocaleWithSortId() {
+        // German (Germany) with phone book sort order
+        assertEquals(Locale.forLanguageTag("de-DE"), service.lcidToLocaleOrNull(0x10407));
+        // German phone book sort order with sort version 1
+        assertEquals(Locale.forLanguageTag("de-DE"), service.lcidToLocaleOrNull(0x110407));
+        // Japanese (Japan) with radical/stroke sort order
+        assertEquals(Locale.forLanguageTag("ja-JP"), service.lcidToLocaleOrNull(0x40411));
+        assertEquals(Locale.forLanguageTag("de-DE"), service.lcidToLocale(Optional.of(0x10407)).get());
+    }
+
+    @Test
+    void testLcidToLocaleWithInvalidSortId() {
+        // Phone book sort order is only defined for German (Germany)
+        assertNull(service.lcidToLocaleOrNull(0x10409));
+        assertTrue(service.lcidToLocale(Optional.of(0x10409)).isEmpty());
+        assertNull(service.lcidToLocaleOrNull(0xF0407));
+    }
+
+    @Test
+    void testLcidToLocaleWithReservedBits() {
+        assertNull(service.lcidToLocaleOrNull(0x01000409));
+        assertTrue(service.lcidToLocale(Optional.of(0x01000409)).isEmpty());
+    }
+
+    @Test
+    void testLcidToCollatorIsCached() {
+        Collator collator = service.lcidToCollator(0x0407);
+
+        assertNotNull(collator);
+        assertEquals(collator, service.lcidToCollator(0x0407));
+        assertNotEquals(collator, service.lcidToCollator(0x10407));
+        assertEquals(service.lcidToCollator(0x10407), service.lcidToCollator(0x110407));
+    }
+
+    @Test
+    void testLcidToCollatorIsNotShared() {
+        Collator collator = service.lcidToCollator(0x0407);
+        int strength = collator.getStrength();
+
+        collator.setStrength(Collator.PRIMARY == strength ? Collator.TERTIARY : Collator.PRIMARY);
+
+        assertNotSame(collator, service.lcidToCollator(0x0407));
+        assertEquals(strength, service.lcidToCollator(0x0407).getStrength());
+    }
+
+    @Test
+    void testLcidToCollatorGermanPhoneBook() {
+        Collator dictionary = service.lcidToCollator(0x0407);
+        Collator phoneBook = service.lcidToCollator(0x10407);
+
+        // Dictionary order treats the umlaut as its base vowel, phone book order as the vowel plus "e"
+        assertTrue(dictionary.compare("M\u00fcller", "Mufti") > 0);
+        assertTrue(phoneBook.compare("M\u00fcller", "Mufti") < 0);
+        assertTrue(phoneBook.compare("M\u00fcller", "Mueller") > 0);
+    }
+
+    @Test
+    void testLcidToCollatorWithInvalidLcid() {
+        assertNull(service.lcidToCollator(0x9999));
+        assertNull(service.lcidToCollator(0x10409));
+        assertNull(service.lcidToCollator(0x007B));
+    }
+
+    @Test
+    void testLcidsToLocales() {
+        int[] lcids = { 0x0409, 0x9999, 0x0407, 0x10407, 0x007B, -1 };
+        Locale[] out = new Locale[lcids.length];
+
+        service.lcidsToLocales(lcids, out);
+
+        for (int i = 0; i < lcids.length; i++) {
+            assertSame(service.lcidToLocaleOrNull(lcids[i]), out[i]);
+        }
+    }
+
+    @Test
+    void testLcidsToLocalesRange() {
+        int[] lcids = { 0x0409, 0x0407, 0x040C };
+        Locale[] out = new Locale[4];
+
+        service.lcidsToLocales(lcids, 1, out, 2, 2);
+
+        assertArrayEquals(new Locale[] { null, null, LanguageID.LANG_0407.getLocaleOrNull(),
+                LanguageID.LANG_040C.getLocaleOrNull() }, out);
+        assertThrows(IndexOutOfBoundsException.class, () -> service.lcidsToLocales(lcids, 2, out, 0, 2));
+    }
+
+    @Test
+    void testLcidsToLocalesFromBuffers() {
+        int[] values = { 0x0409, 0x9999, 0x0407 };
+        Locale[] expected = { LanguageID.LANG_0409.getLocaleOrNull(), null, LanguageID.LANG_0407.getLocaleOrNull() };
+
+        IntBuffer heap = IntBuffer.wrap(values);
+        Locale[] heapOut = new Locale[3];
+        service.lcidsToLocales(heap, heapOut, 0);
+        assertArrayEquals(expected, heapOut);
+        assertFalse(heap.hasRemaining());
+
+        IntBuffer direct = ByteBuffer.allocateDirect(values.length * Integer.BYTES).asIntBuffer().put(values).flip();
+        Locale[] directOut = new Locale[3];
+        service.lcidsToLocales(direct, directOut, 0);
+        assertArrayEquals(expected, directOut);
+        assertFalse(direct.hasRemaining());
+    }
+
+    @Test
+    void testLcidsToLocalesFromStream() {
+        assertEquals(Arrays.asList(LanguageID.LANG_0409.getLocaleOrNull(), null),
+                service.lcidsToLocales(IntStream.of(0x0409, 0x9999)).collect(Collectors.toList()));
+    }
+
     @Test
     void testServiceImplementsInterface() {
         assertTrue(service instanceof LcidService);
@@ -219,6 +403,99 @@ class LcidServiceImplTest {
         testSingleConversion(0x041D, "sv", "SE"); // Swedish (Sweden)
     }
 
+    @Test
+    void testResolveLcidExact() {
+        LcidResolution resolution = service.resolveLcid(0x0407);
+        assertEquals(new LcidResolution(0x0407, Locale.forLanguageTag("de-DE"), Step.EXACT), resolution);
+        assertTrue(resolution.isExact());
+
+        // valid phone book sort keeps the match exact
+        assertEquals(Step.EXACT, service.resolveLcid(0x00010407).step());
+        assertEquals(0x0407, service.resolveLcid(0x00010407).lcid());
+    }
+
+    @Test
+    void testResolveLcidSortStripped() {
+        LcidResolution invalidSort = service.resolveLcid(0x00050407);
+        assertEquals(new LcidResolution(0x0407, Locale.forLanguageTag("de-DE"), Step.SORT_STRIPPED), invalidSort);
+
+        assertEquals(Step.SORT_STRIPPED, service.resolveLcid(0x01000409).step());
+        assertSame(invalidSort, service.resolveLcid(0x00050407));
+    }
+
+    @Test
+    void testResolveLcidNeutral() {
+        // unknown sub-language of French
+        assertEquals(new LcidResolution(0x000C, Locale.forLanguageTag("fr"), Step.NEUTRAL),
+                service.resolveLcid(0x600C));
+        // known language identifier without a locale
+        assertEquals(new LcidResolution(0x000C, Locale.forLanguageTag("fr"), Step.NEUTRAL),
+                service.resolveLcid(0x1C0C));
+        // unknown language identifier with sort bits
+        assertEquals(Step.NEUTRAL, service.resolveLcid(0x00017C09).step());
+    }
+
+    @Test
+    void testResolveLcidInvariant() {
+        assertSame(LcidResolution.INVARIANT, service.resolveLcid(0x03FF));
+        assertSame(LcidResolution.INVARIANT, service.resolveLcid(LcidResolution.INVARIANT_LCID));
+        assertSame(LcidResolution.INVARIANT, service.resolveLcid(-1));
+    }
+
+    @Test
+    void testResolveLcidAgreesWithLcidToLocale() {
+        for (LanguageID languageID : LanguageID.values()) {
+            int lcid = Short.toUnsignedInt(languageID.getLanguageID());
+            Locale locale = service.lcidToLocaleOrNull(lcid);
+            LcidResolution resolution = service.resolveLcid(lcid);
+            assertEquals(locale != null, resolution.isExact(), "LCID 0x" + Integer.toHexString(lcid));
+            if (locale != null) {
+                assertSame(locale, resolution.locale());
+            }
+        }
+    }
+
+    @Test
+    void testMetricsCountHitsMissesAndNullInputs() {
+        BasicLcidService basic = new BasicLcidService();
+
+        basic.lcidToLocale(Optional.of(0x0409));
+        basic.lcidToLocaleOrNull(0x0409);
+        basic.lcidToLocale(0x0407, Locale.ROOT);
+        basic.lcidToLocale(Optional.of(0x9999));
+        basic.lcidToLocaleOrNull(0x01000409);
+        basic.lcidToLocale(Optional.empty());
+        basic.lcidToLocale(null);
+
+        assertEquals(3, basic.getHits());
+        assertEquals(2, basic.getMisses());
+        assertEquals(2, basic.getNullInputs());
+        assertEquals(7, basic.getTotalCalls());
+        assertEquals(Map.of(0x0407, 1L, 0x0409, 2L), basic.getUsageByLanguageId());
+    }
+
+    @Test
+    void testMetricsCountBulkConversion() {
+        BasicLcidService basic = new BasicLcidService();
+
+        basic.lcidsToLocales(new int[] { 0x0409, 0x9999, 0x0409, 0x0407 }, new Locale[4]);
+        basic.lcidsToLocales(IntBuffer.wrap(new int[] { 0x0C0A, -1 }), new Locale[2], 0);
+
+        assertEquals(4, basic.getHits());
+        assertEquals(2, basic.getMisses());
+        assertEquals(0, basic.getNullInputs());
+        assertEquals(Map.of(0x0407, 1L, 0x0409, 2L, 0x0C0A, 1L), basic.getUsageByLanguageId());
+    }
+
+    @Test
+    void testMetricsUsageSnapshotIsImmutable() {
+        BasicLcidService basic = new BasicLcidService();
+        basic.lcidToLocaleOrNull(0x0409);
+
+        Map<Integer, Long> usage = basic.getUsageByLanguageId();
+        assertThrows(UnsupportedOperationException.class, () -> usage.put(0x0407, 1L));
+    }
+
     private void testSingleConversion(int lcid, String expectedLanguage, String expectedCountry) {
         Optional<Locale> result = service.lcidToLocale(Optional.of(lcid));
         assertTrue(result.isPresent(), "LCID 0x" + Integer.toHexString(lcid) + " should convert to a locale");
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidTest {
+
+    @Test
+    void testAccessors() {
+        Lcid lcid = new Lcid(0x00510C04);
+
+        assertEquals(0x0C04, lcid.languageId());
+        assertEquals(0x04, lcid.primaryLanguage());
+        assertEquals(0x03, lcid.subLanguage());
+        assertEquals(0x1, lcid.sortId());
+        assertEquals(0x5, lcid.sortVersion());
+    }
+
+    @Test
+    void testHighLanguageId() {
+        Lcid lcid = new Lcid((short) 0xF2EE);
+
+        assertEquals(0xF2EE, lcid.lcid());
+        assertEquals(0xF2EE, lcid.languageId());
+        assertEquals(0x2EE, lcid.primaryLanguage());
+        assertEquals(0x3C, lcid.subLanguage());
+        assertEquals(0, lcid.sortId());
+        assertEquals(0x0001F2EE, new Lcid((short) 0xF2EE, (byte) 1).lcid());
+    }
+
+    @Test
+    void testComposeWithSortId() {
+        assertEquals(0x00010407, new Lcid((short) 0x0407, SortId.SORT_GERMAN_PHONE_BOOK).lcid());
+        assertThrows(IllegalArgumentException.class,
+                () -> new Lcid((short) 0x0409, SortId.SORT_GERMAN_PHONE_BOOK));
+    }
+
+    @Test
+    void testOfReturnsSharedInstances() {
+        for (LanguageID languageID : LanguageID.values()) {
+            int languageId = Short.toUnsignedInt(languageID.getLanguageID());
+            Lcid lcid = Lcid.of(languageId);
+            assertEquals(languageId, lcid.lcid());
+            assertSame(lcid, Lcid.of(languageId));
+        }
+    }
+
+    @Test
+    void testOfUncachedValues() {
+        assertEquals(new Lcid(0x00010407), Lcid.of(0x00010407));
+        assertEquals(new Lcid(0x9999), Lcid.of(0x9999));
+        assertEquals(new Lcid(-1), Lcid.of(-1));
+    }
+
+}
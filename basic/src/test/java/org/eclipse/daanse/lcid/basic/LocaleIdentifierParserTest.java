@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.daanse.lcid.basic.LocaleIdentifierParser.INVALID;
+import static org.eclipse.daanse.lcid.basic.LocaleIdentifierParser.parse;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleIdentifierParserTest {
+
+    @Test
+    void testDecimal() {
+        assertEquals(0x0409, parse("1033"));
+        assertEquals(0x00010407, parse("66567"));
+        assertEquals(0, parse("0"));
+        assertEquals(INVALID, parse("4294967296"));
+        assertEquals(INVALID, parse("10a3"));
+    }
+
+    @Test
+    void testHexadecimal() {
+        assertEquals(0x0409, parse("0x0409"));
+        assertEquals(0x0409, parse("0X409"));
+        assertEquals(0x00010407, parse("0x00010407"));
+        assertEquals(0xC0A, parse("0x0c0a"));
+        assertEquals(INVALID, parse("0x"));
+        assertEquals(INVALID, parse("0x0409g"));
+        assertEquals(INVALID, parse("0x100000000"));
+        // only ASCII digits and letters, like the decimal form
+        assertEquals(INVALID, parse("0x\u0664\u0660\u0667"));
+        assertEquals(INVALID, parse("0x\uFF14\uFF10\uFF17"));
+        assertEquals(INVALID, parse("0x40\uFF43"));
+        assertEquals(INVALID, parse("0x40G"));
+        assertEquals(INVALID, parse("0x40`"));
+    }
+
+    @Test
+    void testLanguageTag() {
+        assertEquals(0x0409, parse("en-US"));
+        assertEquals(0x0409, parse("en_us"));
+        assertEquals(0x0409, parse("EN-us"));
+        assertEquals(0x7C04, parse("zh-Hant"));
+        assertEquals(0x7C04, parse("ZH_HANT"));
+        assertEquals(0x048E, parse("zh_yue_hk"));
+        assertEquals(0x048E, parse("yue-HK"));
+        assertEquals(INVALID, parse("en-XX"));
+        assertEquals(INVALID, parse("en-U"));
+        assertEquals(INVALID, parse("dé"));
+    }
+
+    @Test
+    void testEveryLanguageTagMatches() {
+        for (LanguageID languageID : LanguageID.values()) {
+            languageID.getLanguageTag().ifPresent(tag -> {
+                assertEquals(Short.toUnsignedInt(languageID.getLanguageID()), parse(tag), tag);
+                assertEquals(Short.toUnsignedInt(languageID.getLanguageID()), parse(tag.toUpperCase()), tag);
+            });
+        }
+    }
+
+    @Test
+    void testWhitespaceAndEmpty() {
+        assertEquals(0x0409, parse(" 1033\t"));
+        assertEquals(0x0409, parse("\ten-US "));
+        assertEquals(INVALID, parse(""));
+        assertEquals(INVALID, parse("   "));
+        assertEquals(INVALID, parse((CharSequence) null));
+    }
+
+    @Test
+    void testRange() {
+        String request = "<LocaleIdentifier>0x0407</LocaleIdentifier>";
+        assertEquals(0x0407, parse(request, 18, 24));
+
+        StringBuilder builder = new StringBuilder("lang=de_de;");
+        assertEquals(0x0407, parse(builder, 5, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> parse(builder, 5, 50));
+    }
+
+    @Test
+    void testBytes() {
+        byte[] bytes = "LocaleIdentifier=1033;tag=fr-fr;hex=0x040c;bad=ü".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(0x0409, parse(bytes, 17, 4));
+        assertEquals(0x040C, parse(bytes, 26, 5));
+        assertEquals(0x040C, parse(bytes, 36, 6));
+        assertEquals(INVALID, parse(bytes, 47, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> parse(bytes, 47, 10));
+    }
+
+}
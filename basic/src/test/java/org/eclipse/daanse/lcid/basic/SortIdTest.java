@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.basic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortIdTest {
+
+    @Test
+    void testIsValid() {
+        assertTrue(SortId.isValid((short) 0x0407, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertTrue(SortId.isValid((short) 0x0C04, SortId.SORT_CHINESE_RADICALSTROKE));
+        assertTrue(SortId.isValid((short) 0x0409, SortId.SORT_DEFAULT));
+        assertTrue(SortId.isValid((short) 0x9999, SortId.SORT_DEFAULT));
+        assertFalse(SortId.isValid((short) 0x0409, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertFalse(SortId.isValid((short) 0x9999, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertFalse(SortId.isValid((short) 0x0407, null));
+    }
+
+    @Test
+    void testIsValidAgreesWithRestrictedLanguages() {
+        for (SortId sortId : SortId.values()) {
+            for (LanguageID languageID : LanguageID.values()) {
+                short languageId = languageID.getLanguageID();
+                boolean restricted = sortId.getRestrictedLanguages() != null;
+                boolean listed = false;
+                if (restricted) {
+                    for (short restriction : sortId.getRestrictedLanguages()) {
+                        listed |= restriction == languageId;
+                    }
+                }
+                assertEquals(!restricted || listed, SortId.isValid(languageId, sortId),
+                        sortId + " for " + languageID);
+            }
+        }
+    }
+
+    @Test
+    void testGetValidatedValue() {
+        assertEquals(1, SortId.getValidatedValue((short) 0x0407, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortId.getValidatedValue((short) 0x0409, SortId.SORT_GERMAN_PHONE_BOOK));
+    }
+
+    @Test
+    void testLookup() {
+        assertEquals(SortId.SORT_DEFAULT, SortId.lookup((short) 0x0404, 0));
+        assertEquals(SortId.SORT_CHINESE_BOPOMOFO, SortId.lookup((short) 0x0404, 3));
+        assertEquals(SortId.SORT_CHINESE_RADICALSTROKE, SortId.lookup((short) 0x0404, 4));
+        assertEquals(SortId.SORT_GEORGIAN_MODERN, SortId.lookup((short) 0x0437, 1));
+        assertNull(SortId.lookup((short) 0x0409, 1));
+        assertNull(SortId.lookup((short) 0x0407, 2));
+        assertNull(SortId.lookup((short) 0x0407, 17));
+        assertNull(SortId.lookup((short) 0x9999, 1));
+    }
+
+    @Test
+    void testTryCompose() {
+        assertEquals(0x00010407, Lcid.tryCompose((short) 0x0407, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertEquals(0x00040C04, Lcid.tryCompose((short) 0x0C04, SortId.SORT_CHINESE_RADICALSTROKE));
+        assertEquals(0x0000F2EE, Lcid.tryCompose((short) 0xF2EE, SortId.SORT_DEFAULT));
+        assertEquals(Lcid.INVALID, Lcid.tryCompose((short) 0x0409, SortId.SORT_GERMAN_PHONE_BOOK));
+        assertEquals(Lcid.INVALID, Lcid.tryCompose((short) 0x0409, null));
+    }
+
+}
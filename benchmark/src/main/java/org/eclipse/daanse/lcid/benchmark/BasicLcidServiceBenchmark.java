@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.basic.BasicLcidService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link BasicLcidService#lcidToLocale(Optional)} for known, unknown and absent LCIDs,
+ * next to the primitive conversion and the resolution with fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class BasicLcidServiceBenchmark {
+
+    BasicLcidService service = new BasicLcidService();
+
+    int knownLcid = 0x0409;
+    int unknownLcid = 0x0999;
+    Optional<Integer> nullLcid = null;
+
+    @Benchmark
+    public Optional<Locale> lcidToLocaleHit() {
+        return service.lcidToLocale(Optional.of(knownLcid));
+    }
+
+    @Benchmark
+    public Optional<Locale> lcidToLocaleMiss() {
+        return service.lcidToLocale(Optional.of(unknownLcid));
+    }
+
+    @Benchmark
+    public Optional<Locale> lcidToLocaleNull() {
+        return service.lcidToLocale(nullLcid);
+    }
+
+    @Benchmark
+    public Optional<Locale> lcidToLocaleEmpty() {
+        return service.lcidToLocale(Optional.empty());
+    }
+
+    @Benchmark
+    public Locale lcidToLocaleOrNullHit() {
+        return service.lcidToLocaleOrNull(knownLcid);
+    }
+
+    @Benchmark
+    public Locale lcidToLocaleOrNullMiss() {
+        return service.lcidToLocaleOrNull(unknownLcid);
+    }
+
+    @Benchmark
+    public LcidResolution resolveLcidExact() {
+        return service.resolveLcid(knownLcid);
+    }
+
+    @Benchmark
+    public LcidResolution resolveLcidFallback() {
+        return service.resolveLcid(unknownLcid);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends BasicLcidServiceBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends BasicLcidServiceBenchmark {
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.LanguageID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the static lookups of {@link LanguageID}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LanguageIDBenchmark {
+
+    short knownLanguageId = 0x0409;
+    short unknownLanguageId = 0x0999;
+    int knownLcid = 0x0409;
+    String knownLanguageTag = "en-US";
+    String unknownLanguageTag = "xx-XX";
+
+    @Benchmark
+    public LanguageID lookupByLcidHit() {
+        return LanguageID.lookupByLcid(knownLanguageId);
+    }
+
+    @Benchmark
+    public LanguageID lookupByLcidMiss() {
+        return LanguageID.lookupByLcid(unknownLanguageId);
+    }
+
+    @Benchmark
+    public LanguageID lookupByLcidInt() {
+        return LanguageID.lookupByLcid(knownLcid);
+    }
+
+    @Benchmark
+    public LanguageID lookupByLanguageTagHit() {
+        return LanguageID.lookupByLanguageTag(knownLanguageTag);
+    }
+
+    @Benchmark
+    public LanguageID lookupByLanguageTagMiss() {
+        return LanguageID.lookupByLanguageTag(unknownLanguageTag);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LanguageIDBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LanguageIDBenchmark {
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.LanguageID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to the first {@link LanguageID} lookup in a fresh JVM.
+ * <p>
+ * Every fork runs a single invocation, so the result includes loading and initializing
+ * {@link LanguageID} and the index used by the lookup, but not the indexes of the other directions.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = 1)
+@Fork(20)
+public class LanguageIDStartupBenchmark {
+
+    int lcid = 0x0409;
+    String languageTag = "en-US";
+    Locale locale = Locale.US;
+
+    @Benchmark
+    public LanguageID firstLookupByLcid() {
+        return LanguageID.lookupByLcid(lcid);
+    }
+
+    @Benchmark
+    public LanguageID firstLookupByLanguageTag() {
+        return LanguageID.lookupByLanguageTag(languageTag);
+    }
+
+    @Benchmark
+    public LanguageID firstLookupByLocale() {
+        return LanguageID.lookupByLocale(locale);
+    }
+
+}
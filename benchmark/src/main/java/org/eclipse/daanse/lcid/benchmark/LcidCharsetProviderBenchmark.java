@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.api.CharsetDecoderLease;
+import org.eclipse.daanse.lcid.api.CodePageType;
+import org.eclipse.daanse.lcid.basic.BasicLcidCharsetProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks decoding a legacy ANSI value with a pooled decoder of {@link BasicLcidCharsetProvider}, next
+ * to looking up the charset by name per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidCharsetProviderBenchmark {
+
+    BasicLcidCharsetProvider provider = new BasicLcidCharsetProvider();
+
+    int lcid = 0x0407;
+    String charsetName = "windows-1252";
+    byte[] bytes = "Grüße aus München".getBytes(Charset.forName(charsetName));
+
+    @Benchmark
+    public CharBuffer pooledDecoder() throws CharacterCodingException {
+        try (CharsetDecoderLease lease = provider.borrowDecoderOrNull(lcid, CodePageType.ANSI)) {
+            return lease.decoder().decode(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    @Benchmark
+    public String charsetForName() {
+        return new String(bytes, Charset.forName(charsetName));
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidCharsetProviderBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidCharsetProviderBenchmark {
+    }
+
+}
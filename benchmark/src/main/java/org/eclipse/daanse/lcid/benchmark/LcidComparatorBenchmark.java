@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.BasicLcidComparatorFactory;
+import org.eclipse.daanse.lcid.basic.BasicLcidService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing member captions with a comparator of {@link BasicLcidComparatorFactory}, next
+ * to comparing them with the collator of the LCID.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidComparatorBenchmark {
+
+    int lcid = 0x0409;
+    Comparator<String> comparator = new BasicLcidComparatorFactory().comparatorOrNull(lcid);
+    Collator collator = new BasicLcidService().lcidToCollator(lcid);
+
+    String asciiA = "Product Category 1042";
+    String asciiB = "product category 1043";
+    String nonAsciiA = "Café Müller";
+    String nonAsciiB = "Cafe Muller";
+
+    @Benchmark
+    public int comparatorAscii() {
+        return comparator.compare(asciiA, asciiB);
+    }
+
+    @Benchmark
+    public int collatorAscii() {
+        return collator.compare(asciiA, asciiB);
+    }
+
+    @Benchmark
+    public int comparatorNonAscii() {
+        return comparator.compare(nonAsciiA, nonAsciiB);
+    }
+
+    @Benchmark
+    public int collatorNonAscii() {
+        return collator.compare(nonAsciiA, nonAsciiB);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidComparatorBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidComparatorBenchmark {
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.LanguageID;
+import org.eclipse.daanse.lcid.basic.LcidDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks encoding and decoding a column of LCIDs with {@link LcidDictionary}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidDictionaryBenchmark {
+
+    static final int ROWS = 4096;
+
+    int[] lcids = new int[ROWS];
+    short[] codes = new short[ROWS];
+    int[] decoded = new int[ROWS];
+    long[] packed;
+
+    public LcidDictionaryBenchmark() {
+        LanguageID[] languageIDs = LanguageID.values();
+        for (int i = 0; i < ROWS; i++) {
+            lcids[i] = Short.toUnsignedInt(languageIDs[(i * 7) % languageIDs.length].getLanguageID());
+        }
+        LcidDictionary.encode(lcids, 0, codes, 0, ROWS);
+        packed = LcidDictionary.pack(codes, 0, ROWS);
+    }
+
+    @Benchmark
+    public short[] encode() {
+        LcidDictionary.encode(lcids, 0, codes, 0, ROWS);
+        return codes;
+    }
+
+    @Benchmark
+    public int[] decode() {
+        LcidDictionary.decode(codes, 0, decoded, 0, ROWS);
+        return decoded;
+    }
+
+    @Benchmark
+    public short[] unpack() {
+        LcidDictionary.unpack(packed, 0, codes, 0, ROWS);
+        return codes;
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidDictionaryBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidDictionaryBenchmark {
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.api.NumberFormatLease;
+import org.eclipse.daanse.lcid.basic.BasicLcidFormatterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks formatting a cell value with a pooled number format of {@link BasicLcidFormatterProvider},
+ * next to building the format per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidFormatterProviderBenchmark {
+
+    BasicLcidFormatterProvider provider = new BasicLcidFormatterProvider();
+
+    int lcid = 0x0407;
+    Locale locale = Locale.GERMANY;
+    String pattern = "#,##0.00";
+    double value = 1234567.891;
+
+    @Benchmark
+    public String pooledNumberFormat() {
+        try (NumberFormatLease lease = provider.borrowNumberFormatOrNull(lcid, pattern)) {
+            return lease.numberFormat().format(value);
+        }
+    }
+
+    @Benchmark
+    public String newNumberFormat() {
+        return new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale)).format(value);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidFormatterProviderBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidFormatterProviderBenchmark {
+    }
+
+}
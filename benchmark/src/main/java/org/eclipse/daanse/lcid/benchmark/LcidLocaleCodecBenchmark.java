@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.api.LcidLocaleCodec;
+import org.eclipse.daanse.lcid.basic.BasicLcidService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks writing and reading a Locale with {@link LcidLocaleCodec}, next to writing and reading its
+ * language tag.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidLocaleCodecBenchmark {
+
+    LcidLocaleCodec codec = new LcidLocaleCodec(new BasicLcidService());
+
+    Locale locale = Locale.GERMANY;
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+
+    @Benchmark
+    public Locale codecRoundTrip() {
+        buffer.clear();
+        codec.write(locale, buffer);
+        buffer.flip();
+        return codec.read(buffer);
+    }
+
+    @Benchmark
+    public Locale languageTagRoundTrip() {
+        buffer.clear();
+        byte[] tag = locale.toLanguageTag().getBytes(StandardCharsets.US_ASCII);
+        buffer.put((byte) tag.length).put(tag);
+        buffer.flip();
+        byte[] read = new byte[buffer.get()];
+        buffer.get(read);
+        return Locale.forLanguageTag(new String(read, StandardCharsets.US_ASCII));
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidLocaleCodecBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidLocaleCodecBenchmark {
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.cfg.impl.Config;
+import org.eclipse.daanse.lcid.cfg.impl.LcidServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LcidServiceImpl#lcidToLocale(Optional)} activated with the default configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LcidServiceImplBenchmark {
+
+    LcidServiceImpl service;
+
+    int lcid = 0x0409;
+
+    @Setup
+    public void setUp() {
+        service = new LcidServiceImpl();
+        service.activate(defaultConfig());
+    }
+
+    @Benchmark
+    public Optional<Locale> lcidToLocale() {
+        return service.lcidToLocale(Optional.of(lcid));
+    }
+
+    @Benchmark
+    public Locale lcidToLocaleOrNull() {
+        return service.lcidToLocaleOrNull(lcid);
+    }
+
+    /**
+     * Creates a configuration that answers every attribute with its declared default value.
+     */
+    static Config defaultConfig() {
+        return (Config) Proxy.newProxyInstance(Config.class.getClassLoader(), new Class<?>[] { Config.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                case "annotationType" -> Config.class;
+                case "toString" -> Config.class.getName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> method.getDefaultValue();
+                });
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LcidServiceImplBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LcidServiceImplBenchmark {
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.LocaleIdentifierParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LocaleIdentifierParser} for the decimal, hexadecimal and tag forms, next to the
+ * {@code Integer.valueOf} parse it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class LocaleIdentifierParserBenchmark {
+
+    String decimal = "1033";
+    String hexadecimal = "0x0409";
+    String tag = "en_us";
+
+    @Benchmark
+    public int parseDecimal() {
+        return LocaleIdentifierParser.parse(decimal);
+    }
+
+    @Benchmark
+    public int parseHexadecimal() {
+        return LocaleIdentifierParser.parse(hexadecimal);
+    }
+
+    @Benchmark
+    public int parseTag() {
+        return LocaleIdentifierParser.parse(tag);
+    }
+
+    @Benchmark
+    public Integer integerValueOf() {
+        return Integer.valueOf(decimal);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends LocaleIdentifierParserBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends LocaleIdentifierParserBenchmark {
+    }
+
+}
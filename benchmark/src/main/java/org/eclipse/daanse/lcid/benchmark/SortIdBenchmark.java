@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.basic.Lcid;
+import org.eclipse.daanse.lcid.basic.SortId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SortId#getValidatedValue(short, SortId)} for the default sort, a valid restricted
+ * sort and a rejected sort, next to the non-throwing {@link SortId#isValid(short, SortId)} and
+ * {@link Lcid#tryCompose(short, SortId)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class SortIdBenchmark {
+
+    short germanLanguageId = 0x0407;
+    short englishLanguageId = 0x0409;
+    short chineseHongKongLanguageId = 0x0C04;
+
+    @Benchmark
+    public byte defaultSort() {
+        return SortId.getValidatedValue(englishLanguageId, SortId.SORT_DEFAULT);
+    }
+
+    @Benchmark
+    public byte restrictedSort() {
+        return SortId.getValidatedValue(germanLanguageId, SortId.SORT_GERMAN_PHONE_BOOK);
+    }
+
+    @Benchmark
+    public byte restrictedSortLastEntry() {
+        return SortId.getValidatedValue(chineseHongKongLanguageId, SortId.SORT_CHINESE_RADICALSTROKE);
+    }
+
+    @Benchmark
+    public byte rejectedSort() {
+        try {
+            return SortId.getValidatedValue(englishLanguageId, SortId.SORT_GERMAN_PHONE_BOOK);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public boolean isValidRestrictedSort() {
+        return SortId.isValid(germanLanguageId, SortId.SORT_GERMAN_PHONE_BOOK);
+    }
+
+    @Benchmark
+    public boolean isValidRejectedSort() {
+        return SortId.isValid(englishLanguageId, SortId.SORT_GERMAN_PHONE_BOOK);
+    }
+
+    @Benchmark
+    public int tryComposeRejectedSort() {
+        return Lcid.tryCompose(englishLanguageId, SortId.SORT_GERMAN_PHONE_BOOK);
+    }
+
+    /** Runs the benchmarks on a single thread. */
+    @Threads(1)
+    public static class SingleThreaded extends SortIdBenchmark {
+    }
+
+    /** Runs the benchmarks on as many threads as there are processors. */
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends SortIdBenchmark {
+    }
+
+}
@@ -63,6 +63,33 @@ public class Constants {
      */
     public static final String LCID_PROPERTY_LOCALEVARIANT = "localeVariant";
 
+    /**
+     * Configuration property name for the per-LCID overrides.
+     * <p>
+     * Each entry has the form {@code LCID=tag}, where the LCID is decimal or hexadecimal with a
+     * {@code 0x} prefix and the tag is a BCP 47 language tag, e.g. {@code 0x0409=en-GB}. An overridden
+     * LCID resolves to its tag instead of the configured locale.
+     * </p>
+     *
+     * @see java.util.Locale#forLanguageTag(String)
+     */
+    public static final String LCID_PROPERTY_OVERRIDES = "overrides";
+
+    /**
+     * Configuration property name for the path of the LCID dataset file.
+     * <p>
+     * The file holds LCID to language tag mappings in the binary dataset format. The dataset LCID
+     * service reads it on activation and again whenever it changes.
+     * </p>
+     */
+    public static final String LCID_PROPERTY_DATASET_PATH = "datasetPath";
+
+    /**
+     * Configuration property name for the interval in milliseconds at which the LCID dataset file is
+     * checked for changes. A value of 0 or less disables the check.
+     */
+    public static final String LCID_PROPERTY_DATASET_POLL_INTERVAL = "datasetPollInterval";
+
     /**
      * The OSGi configuration PID (Persistent Identifier) for the LCID service.
      * <p>
@@ -72,6 +99,56 @@ public class Constants {
      */
     public static final String LCID_PID = "daanse.lcid.cfg.LcidService";
 
+    /**
+     * The OSGi configuration PID of the composite LCID service.
+     * <p>
+     * The composite service is configured with the same properties as the LCID service. It combines the
+     * overrides, a table {@code LcidService} and the configured locale into one lookup table.
+     * </p>
+     */
+    public static final String COMPOSITE_LCID_PID = "daanse.lcid.cfg.CompositeLcidService";
+
+    /**
+     * Name of the reference of the composite LCID service to its table {@code LcidService}.
+     * <p>
+     * The target of the reference can be configured through the property {@code table.target}.
+     * </p>
+     */
+    public static final String COMPOSITE_REFERENCE_TABLE = "table";
+
+    /**
+     * Default target filter of the table reference of the composite LCID service, selecting the
+     * {@code LcidService} backed by the MS-LCID table.
+     */
+    public static final String DEFAULT_COMPOSITE_TABLE_TARGET = "(component.name=org.eclipse.daanse.lcid.basic.BasicLcidService)";
+
+    /**
+     * The OSGi configuration PID of the dataset LCID service.
+     * <p>
+     * The dataset service resolves LCIDs through a binary dataset file that can be replaced at runtime,
+     * and resolves all other LCIDs through a fallback {@code LcidService}. It requires a configuration.
+     * </p>
+     */
+    public static final String DATASET_LCID_PID = "daanse.lcid.cfg.DatasetLcidService";
+
+    /**
+     * Name of the reference of the dataset LCID service to its fallback {@code LcidService}.
+     * <p>
+     * The target of the reference can be configured through the property {@code fallback.target} and
+     * defaults to {@value #DEFAULT_DATASET_FALLBACK_TARGET}.
+     * </p>
+     */
+    public static final String DATASET_REFERENCE_FALLBACK = "fallback";
+
+    /**
+     * Default target filter of the fallback reference of the dataset LCID service, selecting the
+     * {@code LcidService} backed by the MS-LCID table.
+     */
+    public static final String DEFAULT_DATASET_FALLBACK_TARGET = "(component.name=org.eclipse.daanse.lcid.basic.BasicLcidService)";
+
+    /** Default interval in milliseconds at which the LCID dataset file is checked for changes. */
+    public static final long DEFAULT_DATASET_POLL_INTERVAL = 10_000;
+
     /** Default locale language code (English). */
     public static final String DEFAULT_LOCALE_LANGUAGE = "en";
 
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidService;
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LcidService} that combines overrides, a table service and a default locale.
+ * <p>
+ * An LCID resolves to its override if one is configured, otherwise to the Locale of the table service,
+ * which by default is the service backed by the MS-LCID table, and otherwise to the configured locale.
+ * These layers are flattened into one array over all 16-bit language identifiers, so converting such an
+ * LCID is a single array read however many layers contribute. LCIDs with sort, version or reserved bits
+ * are resolved through the layers on each call.
+ * </p>
+ * <p>
+ * The array is rebuilt only when the configuration or the table service changes. A
+ * {@link DatasetLcidService} as table service also triggers a rebuild whenever it swaps in a new
+ * dataset. Other table services are expected to be static. The array is published with the configuration
+ * as one immutable snapshot in a volatile field, so conversions never take a lock.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The service uses the properties of {@link Config} under the factory PID
+ * {@value Constants#COMPOSITE_LCID_PID} and is only activated for a configuration.
+ * The table service is selected by the property {@code table.target}, which defaults to
+ * {@value Constants#DEFAULT_COMPOSITE_TABLE_TARGET}.
+ * </p>
+ *
+ * @see LcidServiceImpl
+ */
+@Designate(ocd = Config.class, factory = true)
+@Component(service = LcidService.class, scope = ServiceScope.SINGLETON, configurationPid = Constants.COMPOSITE_LCID_PID, configurationPolicy = ConfigurationPolicy.REQUIRE)
+public class CompositeLcidService implements LcidService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompositeLcidService.class);
+
+    private static final int LANGUAGE_ID_MASK = 0xFFFF;
+
+    private static final int LANGUAGE_ID_RANGE = LANGUAGE_ID_MASK + 1;
+
+    /**
+     * Immutable snapshot of the configuration and the flattened lookup table.
+     *
+     * @param table     the shared Optional of every 16-bit language identifier, null if not active
+     * @param overrides the compiled per-LCID overrides
+     * @param delegate  the table service, or null if none is bound
+     * @param oLocale   the configured locale wrapped in an Optional
+     */
+    private record State(Optional<Locale>[] table, LcidOverrideTable overrides, LcidService delegate,
+            Optional<Locale> oLocale) {
+
+        static final State INACTIVE = new State(null, LcidOverrideTable.EMPTY, null, Optional.empty());
+    }
+
+    private volatile State state = State.INACTIVE;
+
+    // the inputs of the snapshot are only accessed while holding the lock of this component
+
+    private LcidService tableService;
+
+    private Locale locale;
+
+    private LcidOverrideTable overrides;
+
+    private final Runnable tableListener = this::tableChanged;
+
+    /**
+     * Activates the component and builds the lookup table.
+     *
+     * @param config the OSGi configuration
+     */
+    @Activate
+    public void activate(Config config) {
+        logger.info("Activating composite LCID service with configuration - Language: '{}', Country: '{}', Variant: '{}'",
+                config.localeLanguage(), config.localeCountry(), config.localeVariant());
+        configure(config);
+    }
+
+    /**
+     * Applies a changed configuration and rebuilds the lookup table without deactivating the component.
+     *
+     * @param config the changed OSGi configuration
+     */
+    @Modified
+    public void modified(Config config) {
+        logger.info("Modifying composite LCID service configuration - Language: '{}', Country: '{}', Variant: '{}'",
+                config.localeLanguage(), config.localeCountry(), config.localeVariant());
+        configure(config);
+    }
+
+    /**
+     * Deactivates the component and drops the lookup table.
+     */
+    @Deactivate
+    public synchronized void deactivate() {
+        logger.info("Deactivating composite LCID service");
+        locale = null;
+        overrides = null;
+        state = State.INACTIVE;
+    }
+
+    /**
+     * Binds the table service and rebuilds the lookup table.
+     *
+     * @param service the table service
+     */
+    @Reference(name = Constants.COMPOSITE_REFERENCE_TABLE, target = Constants.DEFAULT_COMPOSITE_TABLE_TARGET,
+            cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC,
+            policyOption = ReferencePolicyOption.GREEDY)
+    public synchronized void bindTable(LcidService service) {
+        logger.debug("Binding table LCID service {}", service);
+        tableService = service;
+        if (service instanceof DatasetLcidService dataset) {
+            dataset.addListener(tableListener);
+        }
+        rebuild();
+    }
+
+    /**
+     * Unbinds the table service and rebuilds the lookup table without it.
+     *
+     * @param service the table service
+     */
+    public synchronized void unbindTable(LcidService service) {
+        if (tableService == service) {
+            logger.debug("Unbinding table LCID service {}", service);
+            tableService = null;
+            rebuild();
+        }
+        if (service instanceof DatasetLcidService dataset) {
+            dataset.removeListener(tableListener);
+        }
+    }
+
+    /**
+     * Rebuilds the lookup table after the table service swapped in new data.
+     */
+    private synchronized void tableChanged() {
+        logger.debug("Table LCID service changed");
+        rebuild();
+    }
+
+    private synchronized void configure(Config config) {
+        locale = Locale.of(config.localeLanguage(), config.localeCountry(), config.localeVariant());
+        overrides = LcidOverrideTable.compile(config.overrides());
+        rebuild();
+    }
+
+    /**
+     * Flattens the layers into a new snapshot. Does nothing while the component is not active.
+     */
+    private void rebuild() {
+        if (locale == null) {
+            return;
+        }
+        LcidService delegate = tableService;
+        Optional<Locale> oLocale = Optional.of(locale);
+        Map<Locale, Optional<Locale>> shared = new HashMap<>();
+        shared.put(locale, oLocale);
+
+        @SuppressWarnings("unchecked")
+        Optional<Locale>[] table = (Optional<Locale>[]) new Optional<?>[LANGUAGE_ID_RANGE];
+        for (int languageId = 0; languageId < LANGUAGE_ID_RANGE; languageId++) {
+            Locale resolved = overrides.get(languageId);
+            if (resolved == null && delegate != null) {
+                // resolveLcid is not counted as conversion by the table service
+                LcidResolution resolution = delegate.resolveLcid(languageId);
+                if (resolution.isExact()) {
+                    resolved = resolution.locale();
+                }
+            }
+            table[languageId] = resolved != null ? shared.computeIfAbsent(resolved, Optional::of) : oLocale;
+        }
+        state = new State(table, overrides, delegate, oLocale);
+        logger.debug("Rebuilt composite LCID table with {} overrides and {} distinct locales", overrides.size(),
+                shared.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like {@link LcidServiceImpl}, this returns the configured locale for a null or empty value.
+     * </p>
+     */
+    @Override
+    public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+        if (value == null || value.isEmpty()) {
+            return state.oLocale();
+        }
+        return lookup(state, value.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocaleOrNull(int lcid) {
+        return lookup(state, lcid).orElse(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocale(int lcid, Locale fallback) {
+        return lookup(state, lcid).orElse(fallback);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole range is resolved against one snapshot of the lookup table.
+     * </p>
+     */
+    @Override
+    public void lcidsToLocales(int[] lcids, int lcidsOffset, Locale[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        State current = state;
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = lookup(current, lcids[lcidsOffset + i]).orElse(null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Overrides are searched first, then the table service is asked.
+     * </p>
+     */
+    @Override
+    public OptionalInt localeToLcid(Locale locale) {
+        State current = state;
+        LcidOverrideTable currentOverrides = current.overrides();
+        for (int i = 0; i < currentOverrides.size(); i++) {
+            if (currentOverrides.localeAt(i).equals(locale)) {
+                return OptionalInt.of(currentOverrides.lcidAt(i));
+            }
+        }
+        return current.delegate() != null ? current.delegate().localeToLcid(locale) : OptionalInt.empty();
+    }
+
+    private static Optional<Locale> lookup(State current, int lcid) {
+        Optional<Locale>[] table = current.table();
+        if (table == null) {
+            return Optional.empty();
+        }
+        if ((lcid & ~LANGUAGE_ID_MASK) == 0) {
+            return table[lcid];
+        }
+        Locale override = current.overrides().get(lcid);
+        if (override != null) {
+            return Optional.of(override);
+        }
+        if (current.delegate() != null) {
+            Locale resolved = current.delegate().lcidToLocaleOrNull(lcid);
+            if (resolved != null) {
+                return Optional.of(resolved);
+            }
+        }
+        return current.oLocale();
+    }
+
+}
@@ -75,6 +75,12 @@ public @interface Config {
     String L10N_LOCALEVARIANT_DESCRIPTION = L10N_PREFIX + Constants.LCID_PROPERTY_LOCALEVARIANT
             + L10N_POSTFIX_DESCRIPTION;
 
+    /** Localized name key for the overrides property. */
+    String L10N_OVERRIDES_NAME = L10N_PREFIX + Constants.LCID_PROPERTY_OVERRIDES + L10N_POSTFIX_NAME;
+
+    /** Localized description key for the overrides property. */
+    String L10N_OVERRIDES_DESCRIPTION = L10N_PREFIX + Constants.LCID_PROPERTY_OVERRIDES + L10N_POSTFIX_DESCRIPTION;
+
     /**
      * Gets the locale language code.
      * <p>
@@ -114,4 +120,17 @@ public @interface Config {
     @AttributeDefinition(name = L10N_LOCALEVARIANT_NAME, description = L10N_LOCALEVARIANT_DESCRIPTION, required = false)
     String localeVariant() default Constants.DEFAULT_LOCALE_VARIANT;
 
+    /**
+     * Gets the per-LCID overrides.
+     * <p>
+     * Each entry maps one LCID to a BCP 47 language tag in the form {@code LCID=tag}, with the LCID in
+     * decimal or {@code 0x} hexadecimal notation. Malformed entries are logged and ignored.
+     * </p>
+     *
+     * @return the override entries (e.g., "0x0409=en-GB", "1031=de-AT")
+     * @see Constants#LCID_PROPERTY_OVERRIDES
+     */
+    @AttributeDefinition(name = L10N_OVERRIDES_NAME, description = L10N_OVERRIDES_DESCRIPTION, required = false)
+    String[] overrides() default {};
+
 }
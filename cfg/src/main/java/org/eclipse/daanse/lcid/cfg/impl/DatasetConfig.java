@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+/**
+ * Configuration interface for the dataset LCID service using OSGi Metatype annotations.
+ * <p>
+ * The configuration names the binary dataset file and how often it is checked for changes.
+ * </p>
+ *
+ * @see DatasetLcidService
+ */
+@ObjectClassDefinition(name = DatasetConfig.L10N_OCD_DATASET_NAME, description = DatasetConfig.L10N_OCD_DATASET_DESCRIPTION, localization = Config.OCD_LOCALIZATION)
+public @interface DatasetConfig {
+
+    /** Localized name key for the dataset LCID service configuration. */
+    String L10N_OCD_DATASET_NAME = Config.L10N_PREFIX + "ocd" + ".dataset" + Config.L10N_POSTFIX_NAME;
+
+    /** Localized description key for the dataset LCID service configuration. */
+    String L10N_OCD_DATASET_DESCRIPTION = Config.L10N_PREFIX + "ocd" + ".dataset" + Config.L10N_POSTFIX_DESCRIPTION;
+
+    /** Localized name key for the dataset path property. */
+    String L10N_DATASETPATH_NAME = Config.L10N_PREFIX + Constants.LCID_PROPERTY_DATASET_PATH
+            + Config.L10N_POSTFIX_NAME;
+
+    /** Localized description key for the dataset path property. */
+    String L10N_DATASETPATH_DESCRIPTION = Config.L10N_PREFIX + Constants.LCID_PROPERTY_DATASET_PATH
+            + Config.L10N_POSTFIX_DESCRIPTION;
+
+    /** Localized name key for the dataset poll interval property. */
+    String L10N_DATASETPOLLINTERVAL_NAME = Config.L10N_PREFIX + Constants.LCID_PROPERTY_DATASET_POLL_INTERVAL
+            + Config.L10N_POSTFIX_NAME;
+
+    /** Localized description key for the dataset poll interval property. */
+    String L10N_DATASETPOLLINTERVAL_DESCRIPTION = Config.L10N_PREFIX + Constants.LCID_PROPERTY_DATASET_POLL_INTERVAL
+            + Config.L10N_POSTFIX_DESCRIPTION;
+
+    /**
+     * Gets the path of the dataset file.
+     *
+     * @return the file system path of the binary LCID dataset
+     * @see Constants#LCID_PROPERTY_DATASET_PATH
+     */
+    @AttributeDefinition(name = L10N_DATASETPATH_NAME, description = L10N_DATASETPATH_DESCRIPTION, required = true)
+    String datasetPath();
+
+    /**
+     * Gets the interval at which the dataset file is checked for changes.
+     *
+     * @return the interval in milliseconds, 0 or less to never reload the file
+     * @see Constants#LCID_PROPERTY_DATASET_POLL_INTERVAL
+     */
+    @AttributeDefinition(name = L10N_DATASETPOLLINTERVAL_NAME, description = L10N_DATASETPOLLINTERVAL_DESCRIPTION, required = false)
+    long datasetPollInterval() default Constants.DEFAULT_DATASET_POLL_INTERVAL;
+
+}
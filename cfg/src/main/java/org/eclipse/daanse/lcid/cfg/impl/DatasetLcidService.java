@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidService;
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LcidService} backed by a binary LCID dataset file that can be replaced at runtime.
+ * <p>
+ * An LCID resolves to its entry in the dataset, see {@link LcidDataset} for the format, and otherwise
+ * through the fallback service, which by default is the service backed by the MS-LCID table. This lets
+ * operators add or correct mappings by shipping a new dataset file instead of a new bundle.
+ * </p>
+ * <p>
+ * The file is checked for a changed modification time or size at the configured interval. A changed
+ * file is read completely into a new immutable table, which then replaces the snapshot in a volatile
+ * field, so conversions never take a lock and never see a partly loaded table. A file that cannot be
+ * read or is malformed is logged and the previous table stays in use. Files should be replaced by an
+ * atomic move, so that a check never reads a file that is still being written.
+ * </p>
+ * <p>
+ * A {@link CompositeLcidService} that uses this service as table service is notified of every new
+ * snapshot and rebuilds its own table, so swapped datasets also reach it.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The service uses the properties of {@link DatasetConfig} under the PID
+ * {@value Constants#DATASET_LCID_PID} and is only active with a configuration. The fallback service is
+ * selected by the property {@code fallback.target}, which defaults to
+ * {@value Constants#DEFAULT_DATASET_FALLBACK_TARGET}.
+ * </p>
+ */
+@Designate(ocd = DatasetConfig.class, factory = true)
+@Component(service = LcidService.class, scope = ServiceScope.SINGLETON, configurationPid = Constants.DATASET_LCID_PID, configurationPolicy = ConfigurationPolicy.REQUIRE)
+public class DatasetLcidService implements LcidService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetLcidService.class);
+
+    private static final int LANGUAGE_ID_MASK = 0xFFFF;
+
+    /**
+     * Immutable snapshot of the loaded dataset and the fallback service.
+     *
+     * @param table         the table of the dataset
+     * @param lcidsByLocale the lowest LCID of each Locale of the table
+     * @param fallback      the fallback service, or null if none is bound
+     */
+    private record State(LcidOverrideTable table, Map<Locale, Integer> lcidsByLocale, LcidService fallback) {
+
+        static final State INACTIVE = new State(LcidOverrideTable.EMPTY, Map.of(), null);
+    }
+
+    /**
+     * Identifies a version of the dataset file.
+     */
+    private record FileVersion(FileTime lastModified, long size) {
+    }
+
+    private volatile State state = State.INACTIVE;
+
+    // the inputs of the snapshot are only accessed while holding the lock of this component
+
+    private LcidService fallbackService;
+
+    private Path path;
+
+    private FileVersion loadedVersion;
+
+    private boolean unavailable;
+
+    private LcidOverrideTable table = LcidOverrideTable.EMPTY;
+
+    private Map<Locale, Integer> lcidsByLocale = Map.of();
+
+    private ScheduledExecutorService watcher;
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Activates the component, loads the dataset and starts checking it for changes.
+     *
+     * @param config the OSGi configuration
+     */
+    @Activate
+    public void activate(DatasetConfig config) {
+        logger.info("Activating dataset LCID service with dataset '{}'", config.datasetPath());
+        configure(config);
+    }
+
+    /**
+     * Applies a changed configuration without deactivating the component.
+     *
+     * @param config the changed OSGi configuration
+     */
+    @Modified
+    public void modified(DatasetConfig config) {
+        logger.info("Modifying dataset LCID service with dataset '{}'", config.datasetPath());
+        configure(config);
+    }
+
+    /**
+     * Deactivates the component, stops checking the dataset and drops the table.
+     */
+    @Deactivate
+    public synchronized void deactivate() {
+        logger.info("Deactivating dataset LCID service");
+        stopWatcher();
+        path = null;
+        loadedVersion = null;
+        table = LcidOverrideTable.EMPTY;
+        lcidsByLocale = Map.of();
+        publish();
+    }
+
+    /**
+     * Binds the fallback service.
+     *
+     * @param service the fallback service
+     */
+    @Reference(name = Constants.DATASET_REFERENCE_FALLBACK, target = Constants.DEFAULT_DATASET_FALLBACK_TARGET,
+            cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC,
+            policyOption = ReferencePolicyOption.GREEDY)
+    public synchronized void bindFallback(LcidService service) {
+        logger.debug("Binding fallback LCID service {}", service);
+        fallbackService = service;
+        publish();
+    }
+
+    /**
+     * Unbinds the fallback service.
+     *
+     * @param service the fallback service
+     */
+    public synchronized void unbindFallback(LcidService service) {
+        if (fallbackService == service) {
+            logger.debug("Unbinding fallback LCID service {}", service);
+            fallbackService = null;
+            publish();
+        }
+    }
+
+    private synchronized void configure(DatasetConfig config) {
+        stopWatcher();
+        path = Path.of(config.datasetPath());
+        loadedVersion = null;
+        unavailable = false;
+        table = LcidOverrideTable.EMPTY;
+        lcidsByLocale = Map.of();
+        if (!reloadIfChanged()) {
+            // publish the new path and the empty table, a successful load has published already
+            publish();
+        }
+        long interval = config.datasetPollInterval();
+        if (interval > 0) {
+            watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "daanse-lcid-dataset-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(this::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopWatcher() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Loads the dataset file if it changed since it was last loaded and publishes the new table.
+     *
+     * @return true if a new table was published
+     */
+    synchronized boolean reloadIfChanged() {
+        if (path == null) {
+            return false;
+        }
+        FileVersion version;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            version = new FileVersion(attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException e) {
+            if (!unavailable) {
+                // logged once until the file is back
+                logger.warn("Cannot check LCID dataset '{}', keeping {} entries: {}", path, table.size(),
+                        e.getMessage());
+                unavailable = true;
+            }
+            return false;
+        }
+        unavailable = false;
+        if (version.equals(loadedVersion)) {
+            return false;
+        }
+        // remember the version before reading, so a change during the read is picked up by the next check
+        loadedVersion = version;
+        try {
+            table = LcidDataset.read(path);
+            lcidsByLocale = indexByLocale(table);
+        } catch (IOException e) {
+            logger.warn("Cannot load LCID dataset '{}', keeping {} entries: {}", path, table.size(),
+                    e.getMessage());
+            return false;
+        }
+        logger.info("Loaded LCID dataset '{}' with {} entries", path, table.size());
+        publish();
+        return true;
+    }
+
+    private void publish() {
+        state = path != null ? new State(table, lcidsByLocale, fallbackService) : State.INACTIVE;
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    private static Map<Locale, Integer> indexByLocale(LcidOverrideTable table) {
+        Map<Locale, Integer> index = new HashMap<>();
+        for (int i = 0; i < table.size(); i++) {
+            // entries are ascending, so the first LCID of a Locale is its lowest
+            index.putIfAbsent(table.localeAt(i), table.lcidAt(i));
+        }
+        return index;
+    }
+
+    /**
+     * Adds a listener that is run after each new snapshot is published, while the lock of this component
+     * is held.
+     *
+     * @param listener the listener
+     */
+    void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(Runnable)}.
+     *
+     * @param listener the listener
+     */
+    void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+        if (value == null || value.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lookup(state, value.get()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocaleOrNull(int lcid) {
+        return lookup(state, lcid);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale lcidToLocale(int lcid, Locale fallback) {
+        Locale locale = lookup(state, lcid);
+        return locale != null ? locale : fallback;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole range is resolved against one snapshot of the dataset.
+     * </p>
+     */
+    @Override
+    public void lcidsToLocales(int[] lcids, int lcidsOffset, Locale[] out, int outOffset, int length) {
+        Objects.checkFromIndexSize(lcidsOffset, length, lcids.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        State current = state;
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = lookup(current, lcids[lcidsOffset + i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Dataset entries are exact matches and are reported without their sort bits. All other LCIDs are
+     * resolved by the fallback service.
+     * </p>
+     */
+    @Override
+    public LcidResolution resolveLcid(int lcid) {
+        State current = state;
+        Locale locale = current.table().get(lcid);
+        if (locale != null) {
+            return new LcidResolution(lcid & LANGUAGE_ID_MASK, locale, LcidResolution.Step.EXACT);
+        }
+        return current.fallback() != null ? current.fallback().resolveLcid(lcid) : LcidResolution.INVARIANT;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The dataset is looked up in an index built when it was loaded, then the fallback service is asked.
+     * </p>
+     */
+    @Override
+    public OptionalInt localeToLcid(Locale locale) {
+        State current = state;
+        Integer lcid = current.lcidsByLocale().get(locale);
+        if (lcid != null) {
+            return OptionalInt.of(lcid);
+        }
+        return current.fallback() != null ? current.fallback().localeToLcid(locale) : OptionalInt.empty();
+    }
+
+    private static Locale lookup(State current, int lcid) {
+        Locale locale = current.table().get(lcid);
+        if (locale == null && current.fallback() != null) {
+            locale = current.fallback().lcidToLocaleOrNull(lcid);
+        }
+        return locale;
+    }
+
+}
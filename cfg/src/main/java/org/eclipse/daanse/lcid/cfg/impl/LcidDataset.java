@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reader and writer of the binary LCID dataset format.
+ * <p>
+ * A dataset maps LCIDs to BCP 47 language tags. All numbers are big-endian:
+ * </p>
+ *
+ * <pre>
+ * header   int    magic {@value #MAGIC_TEXT}
+ *          short  format version {@value #VERSION}
+ *          short  number of entries n
+ * entries  n times:
+ *          int    LCID, strictly ascending, reserved bits 24 to 31 clear
+ *          short  offset of the language tag in the tag area
+ *          short  length of the language tag in bytes
+ * tags     the US-ASCII language tags
+ * </pre>
+ * <p>
+ * Files are read into a heap buffer and decoded completely into an immutable {@link LcidOverrideTable}.
+ * The file is closed before the table is returned, so it can be replaced right away, also on platforms
+ * that do not allow replacing a mapped file. Every entry is validated before the table is returned, and a
+ * malformed file is rejected as a whole.
+ * </p>
+ */
+final class LcidDataset {
+
+    /** The magic number at the start of a dataset. */
+    static final int MAGIC = 0x4C434944;
+
+    private static final String MAGIC_TEXT = "LCID";
+
+    /** The supported format version. */
+    static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final int ENTRY_SIZE = 8;
+
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private static final int MAX_TAG_AREA = 0xFFFF;
+
+    private static final int RESERVED_MASK = 0xFF000000;
+
+    private LcidDataset() {
+    }
+
+    /**
+     * Reads a dataset file.
+     *
+     * @param file the dataset file
+     * @return the table of the dataset
+     * @throws IOException if the file cannot be read or is not a valid dataset
+     */
+    static LcidOverrideTable read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > HEADER_SIZE + (long) MAX_ENTRIES * ENTRY_SIZE + MAX_TAG_AREA) {
+                throw new IOException("LCID dataset '" + file + "' is too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // a file that shrinks while it is read ends early and fails to decode
+            }
+            return decode(buffer.flip());
+        }
+    }
+
+    /**
+     * Decodes a dataset.
+     *
+     * @param buffer the dataset, read from its position
+     * @return the table of the dataset
+     * @throws IOException if the buffer does not hold a valid dataset
+     */
+    static LcidOverrideTable decode(ByteBuffer buffer) throws IOException {
+        try {
+            ByteBuffer data = buffer.slice();
+            if (data.getInt() != MAGIC) {
+                throw new IOException("Not an LCID dataset: the magic number '" + MAGIC_TEXT + "' is missing");
+            }
+            short version = data.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported LCID dataset version " + version + ", expected " + VERSION);
+            }
+            int count = Short.toUnsignedInt(data.getShort());
+            int tagArea = HEADER_SIZE + count * ENTRY_SIZE;
+            if (tagArea > data.limit()) {
+                throw new IOException("LCID dataset is truncated: " + count + " entries do not fit into "
+                        + data.limit() + " bytes");
+            }
+            int[] lcids = new int[count];
+            Locale[] locales = new Locale[count];
+            Map<String, Locale> shared = new HashMap<>();
+            byte[] tagBytes = new byte[MAX_TAG_AREA];
+            for (int i = 0; i < count; i++) {
+                int lcid = data.getInt();
+                int offset = Short.toUnsignedInt(data.getShort());
+                int length = Short.toUnsignedInt(data.getShort());
+                if ((lcid & RESERVED_MASK) != 0) {
+                    throw new IOException("LCID 0x" + Integer.toHexString(lcid) + " of entry " + i
+                            + " has reserved bits set");
+                }
+                if (i > 0 && lcids[i - 1] >= lcid) {
+                    throw new IOException("LCIDs are not strictly ascending at entry " + i);
+                }
+                if (length == 0 || tagArea + offset + length > data.limit()) {
+                    throw new IOException("Language tag of entry " + i + " is empty or out of bounds");
+                }
+                data.get(tagArea + offset, tagBytes, 0, length);
+                String tag = new String(tagBytes, 0, length, StandardCharsets.US_ASCII);
+                lcids[i] = lcid;
+                locales[i] = shared.get(tag);
+                if (locales[i] == null) {
+                    locales[i] = new Locale.Builder().setLanguageTag(tag).build();
+                    shared.put(tag, locales[i]);
+                }
+            }
+            return LcidOverrideTable.of(lcids, locales);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("LCID dataset is truncated", e);
+        } catch (IllformedLocaleException e) {
+            throw new IOException("LCID dataset contains an invalid language tag: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes a dataset.
+     *
+     * @param lcids the LCIDs in strictly ascending order
+     * @param tags  the BCP 47 language tag of each LCID
+     * @return the encoded dataset
+     * @throws IllegalArgumentException if the entries cannot be encoded
+     */
+    static byte[] encode(int[] lcids, String[] tags) {
+        if (lcids.length != tags.length || lcids.length > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Expected up to " + MAX_ENTRIES + " LCIDs with one tag each");
+        }
+        byte[][] tagBytes = new byte[tags.length][];
+        int tagAreaSize = 0;
+        for (int i = 0; i < tags.length; i++) {
+            tagBytes[i] = tags[i].getBytes(StandardCharsets.US_ASCII);
+            tagAreaSize += tagBytes[i].length;
+        }
+        if (tagAreaSize > MAX_TAG_AREA) {
+            throw new IllegalArgumentException("The language tags exceed " + MAX_TAG_AREA + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + lcids.length * ENTRY_SIZE + tagAreaSize);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) lcids.length);
+        int offset = 0;
+        for (int i = 0; i < lcids.length; i++) {
+            buffer.putInt(lcids[i]).putShort((short) offset).putShort((short) tagBytes[i].length);
+            offset += tagBytes[i].length;
+        }
+        for (byte[] tag : tagBytes) {
+            buffer.put(tag);
+        }
+        return buffer.array();
+    }
+
+}
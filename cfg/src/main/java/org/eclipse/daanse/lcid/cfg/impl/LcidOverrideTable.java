@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.util.Arrays;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Immutable table of per-LCID locale overrides.
+ * <p>
+ * The LCIDs are kept in a sorted {@code int} array next to a parallel array of Locales, so a lookup is
+ * a binary search over primitives that neither boxes nor allocates.
+ * </p>
+ */
+final class LcidOverrideTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LcidOverrideTable.class);
+
+    /** The table without overrides. */
+    static final LcidOverrideTable EMPTY = new LcidOverrideTable(new int[0], new Locale[0]);
+
+    private static final char SEPARATOR = '=';
+
+    private final int[] lcids;
+    private final Locale[] locales;
+
+    private LcidOverrideTable(int[] lcids, Locale[] locales) {
+        this.lcids = lcids;
+        this.locales = locales;
+    }
+
+    /**
+     * Compiles override entries of the form {@code LCID=tag}.
+     * <p>
+     * Malformed entries are logged and skipped. If an LCID occurs more than once, the last entry wins.
+     * </p>
+     *
+     * @param entries the override entries, may be null
+     * @return the compiled table
+     */
+    static LcidOverrideTable compile(String[] entries) {
+        if (entries == null || entries.length == 0) {
+            return EMPTY;
+        }
+        Map<Integer, Locale> overrides = new TreeMap<>();
+        for (String entry : entries) {
+            if (entry == null || entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(SEPARATOR);
+            if (separator < 0) {
+                logger.warn("Ignoring LCID override '{}': expected the form LCID=tag", entry);
+                continue;
+            }
+            String lcidText = entry.substring(0, separator).strip();
+            String tag = entry.substring(separator + 1).strip();
+            int lcid;
+            Locale locale;
+            try {
+                lcid = Integer.decode(lcidText);
+                locale = new Locale.Builder().setLanguageTag(tag).build();
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring LCID override '{}': '{}' is not a valid LCID", entry, lcidText);
+                continue;
+            } catch (IllformedLocaleException e) {
+                logger.warn("Ignoring LCID override '{}': '{}' is not a valid language tag", entry, tag);
+                continue;
+            }
+            if (tag.isEmpty()) {
+                logger.warn("Ignoring LCID override '{}': the language tag is empty", entry);
+                continue;
+            }
+            if (overrides.put(lcid, locale) != null) {
+                logger.warn("LCID override '{}' replaces an earlier override of the same LCID", entry);
+            }
+        }
+        if (overrides.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] lcids = new int[overrides.size()];
+        Locale[] locales = new Locale[overrides.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Locale> override : overrides.entrySet()) {
+            lcids[i] = override.getKey();
+            locales[i] = override.getValue();
+            i++;
+        }
+        return new LcidOverrideTable(lcids, locales);
+    }
+
+    /**
+     * Creates a table from parallel arrays, such as those read from an LCID dataset.
+     *
+     * @param lcids   the LCIDs in strictly ascending order, not copied
+     * @param locales the Locale of each LCID, not copied
+     * @return the table
+     * @throws IllegalArgumentException if the arrays differ in length or the LCIDs are not strictly
+     *                                  ascending
+     */
+    static LcidOverrideTable of(int[] lcids, Locale[] locales) {
+        if (lcids.length != locales.length) {
+            throw new IllegalArgumentException(
+                    "Expected one Locale per LCID, got " + lcids.length + " LCIDs and " + locales.length + " Locales");
+        }
+        for (int i = 1; i < lcids.length; i++) {
+            if (lcids[i - 1] >= lcids[i]) {
+                throw new IllegalArgumentException("LCIDs are not strictly ascending at index " + i);
+            }
+        }
+        return lcids.length == 0 ? EMPTY : new LcidOverrideTable(lcids, locales);
+    }
+
+    /**
+     * Gets the override of an LCID.
+     *
+     * @param lcid the LCID
+     * @return the overriding Locale, or null if the LCID is not overridden
+     */
+    Locale get(int lcid) {
+        int index = Arrays.binarySearch(lcids, lcid);
+        return index >= 0 ? locales[index] : null;
+    }
+
+    /**
+     * Gets the number of overridden LCIDs.
+     *
+     * @return the number of overrides
+     */
+    int size() {
+        return lcids.length;
+    }
+
+    /**
+     * Gets the overridden LCID at a position of the table.
+     *
+     * @param index the position, 0 to {@link #size()} - 1, in ascending LCID order
+     * @return the LCID
+     */
+    int lcidAt(int index) {
+        return lcids[index];
+    }
+
+    /**
+     * Gets the overriding Locale at a position of the table.
+     *
+     * @param index the position, 0 to {@link #size()} - 1, in ascending LCID order
+     * @return the Locale
+     */
+    Locale localeAt(int index) {
+        return locales[index];
+    }
+
+}
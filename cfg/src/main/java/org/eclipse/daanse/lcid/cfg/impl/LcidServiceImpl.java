@@ -17,11 +17,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import org.eclipse.daanse.lcid.api.LcidConversionEvent;
 import org.eclipse.daanse.lcid.api.LcidService;
 import org.eclipse.daanse.lcid.cfg.api.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
@@ -35,6 +37,11 @@ import org.slf4j.LoggerFactory;
  * The locale is configured through OSGi Configuration Admin using the {@link Config} interface.
  * </p>
  * <p>
+ * Individual LCIDs can be mapped to other locales through overrides. The configured locale and the
+ * compiled overrides form one immutable snapshot held in a volatile field. Configuration changes
+ * replace the snapshot without deactivating the component, and conversions never take a lock.
+ * </p>
+ * <p>
  * This implementation uses a factory configuration pattern, allowing multiple instances
  * of the service to be created with different locale configurations. Each instance
  * is registered as a singleton-scoped OSGi service.
@@ -48,13 +55,15 @@ import org.slf4j.LoggerFactory;
  *   <li><strong>localeLanguage</strong>: ISO 639 language code (required, default: "en")</li>
  *   <li><strong>localeCountry</strong>: ISO 3166 country code (optional, default: "US")</li>
  *   <li><strong>localeVariant</strong>: Locale variant (optional, default: "")</li>
+ *   <li><strong>overrides</strong>: Per-LCID overrides of the form {@code LCID=tag} (optional, default: none)</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
  * <pre>{@code
  * // Service will return the configured locale for any LCID input
  * Optional<Locale> locale = lcidService.lcidToLocale(Optional.of(1033));
- * // Returns the configured locale (e.g., Locale.of("en", "US", ""))
+ * // Returns the configured locale (e.g., Locale.of("en", "US", "")),
+ * // or Locale.forLanguageTag("en-GB") if overrides contains "0x0409=en-GB"
  * }</pre>
  *
  * @since 0.0.1
@@ -69,17 +78,29 @@ public class LcidServiceImpl implements LcidService {
     private static final Logger logger = LoggerFactory.getLogger(LcidServiceImpl.class);
 
     /**
-     * The configured locale instance wrapped in an Optional.
-     * This field is initialized during component activation and cleared during deactivation.
+     * Immutable snapshot of the configuration.
+     *
+     * @param locale    the configured locale, or null if the component is not active
+     * @param oLocale   the configured locale wrapped in an Optional
+     * @param overrides the compiled per-LCID overrides
+     */
+    private record State(Locale locale, Optional<Locale> oLocale, LcidOverrideTable overrides) {
+
+        static final State INACTIVE = new State(null, Optional.empty(), LcidOverrideTable.EMPTY);
+    }
+
+    /**
+     * The current configuration snapshot. It is replaced as a whole on activation, modification and
+     * deactivation, so readers always see a consistent locale and override table.
      */
-    private Optional<Locale> oLocale;
+    private volatile State state = State.INACTIVE;
 
     /**
      * Activates the LCID service component with the provided configuration.
      * <p>
      * This method is called by the OSGi framework when the component is activated.
-     * It creates a {@link Locale} instance from the configuration parameters and
-     * initializes the service for use.
+     * It creates a {@link Locale} instance and the override table from the configuration
+     * parameters and initializes the service for use.
      * </p>
      *
      * @param config the OSGi configuration containing locale parameters
@@ -92,15 +113,42 @@ public class LcidServiceImpl implements LcidService {
         logger.info("Activating LCID service with configuration - Language: '{}', Country: '{}', Variant: '{}'",
                 config.localeLanguage(), config.localeCountry(), config.localeVariant());
 
+        state = createState(config);
+        logger.info("LCID service activated successfully with locale: '{}'", state.locale());
+    }
+
+    /**
+     * Applies a changed configuration without deactivating the component.
+     * <p>
+     * The new snapshot is built completely before it is published, so concurrent conversions see
+     * either the old or the new configuration. If the new configuration is invalid, the old one stays
+     * in place.
+     * </p>
+     *
+     * @param config the changed OSGi configuration
+     * @throws IllegalArgumentException if the locale parameters are invalid
+     */
+    @Modified
+    public void modified(Config config) {
+        logger.info("Modifying LCID service configuration - Language: '{}', Country: '{}', Variant: '{}'",
+                config.localeLanguage(), config.localeCountry(), config.localeVariant());
+
+        state = createState(config);
+        logger.info("LCID service configuration modified successfully with locale: '{}'", state.locale());
+    }
+
+    private static State createState(Config config) {
+        Locale locale;
         try {
-            Locale locale = Locale.of(config.localeLanguage(), config.localeCountry(), config.localeVariant());
-            oLocale = Optional.of(locale);
-            logger.info("LCID service activated successfully with locale: '{}'", locale);
+            locale = Locale.of(config.localeLanguage(), config.localeCountry(), config.localeVariant());
         } catch (Exception e) {
             logger.error("Failed to create locale from configuration - Language: '{}', Country: '{}', Variant: '{}'",
                     config.localeLanguage(), config.localeCountry(), config.localeVariant(), e);
             throw e;
         }
+        LcidOverrideTable overrides = LcidOverrideTable.compile(config.overrides());
+        logger.debug("Compiled {} LCID overrides", overrides.size());
+        return new State(locale, Optional.of(locale), overrides);
     }
 
     /**
@@ -115,25 +163,20 @@ public class LcidServiceImpl implements LcidService {
     @Deactivate
     public void deactivate(Map<String, Object> configMap) {
         logger.info("Deactivating LCID service");
-        oLocale = Optional.empty();
+        state = State.INACTIVE;
         logger.debug("LCID service deactivated successfully");
     }
 
     /**
      * Converts a Locale Identifier (LCID) to a Java Locale.
      * <p>
-     * This implementation returns the configured locale regardless of the input LCID value.
-     * The actual LCID parameter is currently ignored, as this service provides a
-     * static locale configuration rather than dynamic LCID-to-Locale mapping.
-     * </p>
-     * <p>
-     * <strong>Note:</strong> This is a simplified implementation. In a complete LCID service,
-     * the input parameter would be used to look up the corresponding locale from
-     * Microsoft's LCID tables or similar mapping mechanisms.
+     * This implementation returns the override of the LCID if one is configured, and the configured
+     * locale for all other LCID values, as this service provides a static locale configuration rather
+     * than a full LCID-to-Locale mapping.
      * </p>
      *
-     * @param localeIdentifier the optional LCID to convert (currently ignored)
-     * @return the configured locale, or empty Optional if the service is not initialized
+     * @param localeIdentifier the optional LCID to convert
+     * @return the override or configured locale, or empty Optional if the service is not initialized
      * @see LcidService#lcidToLocale(Optional)
      * @see java.util.Locale
      */
@@ -141,13 +184,74 @@ public class LcidServiceImpl implements LcidService {
     public Optional<Locale> lcidToLocale(Optional<Integer> localeIdentifier) {
         logger.debug("Converting LCID '{}' to locale", localeIdentifier.orElse(null));
 
-        if (oLocale.isEmpty()) {
+        LcidConversionEvent event = new LcidConversionEvent();
+        event.begin();
+        State current = state;
+        if (current.oLocale().isEmpty()) {
+            event.commit(LcidServiceImpl.class, localeIdentifier.orElse(0), null, LcidConversionEvent.MISS);
             logger.warn("LCID service not properly initialized - no locale available");
             return Optional.empty();
         }
 
-        logger.debug("Returning configured locale: '{}'", oLocale.get());
-        return oLocale;
+        if (localeIdentifier.isPresent()) {
+            Locale override = current.overrides().get(localeIdentifier.get());
+            if (override != null) {
+                event.commit(LcidServiceImpl.class, localeIdentifier.get(), override, LcidConversionEvent.HIT);
+                logger.debug("Returning override locale: '{}'", override);
+                return Optional.of(override);
+            }
+        }
+
+        event.commit(LcidServiceImpl.class, localeIdentifier.orElse(0), current.locale(),
+                LcidConversionEvent.FALLBACK);
+        logger.debug("Returning configured locale: '{}'", current.locale());
+        return current.oLocale();
+    }
+
+    /**
+     * Returns the override of the LCID, or the configured locale if it has none.
+     *
+     * @param lcid the LCID to convert
+     * @return the override or configured locale, or null if the service is not initialized
+     * @see LcidService#lcidToLocaleOrNull(int)
+     */
+    @Override
+    public Locale lcidToLocaleOrNull(int lcid) {
+        LcidConversionEvent event = new LcidConversionEvent();
+        event.begin();
+        State current = state;
+        Locale override = current.overrides().get(lcid);
+        if (override != null) {
+            event.commit(LcidServiceImpl.class, lcid, override, LcidConversionEvent.HIT);
+            return override;
+        }
+        Locale locale = current.locale();
+        event.commit(LcidServiceImpl.class, lcid, locale,
+                locale != null ? LcidConversionEvent.FALLBACK : LcidConversionEvent.MISS);
+        return locale;
+    }
+
+    /**
+     * Returns the override of the LCID, or the configured locale if it has none.
+     *
+     * @param lcid     the LCID to convert
+     * @param fallback the locale to return if the service is not initialized
+     * @return the override or configured locale, or {@code fallback} if the service is not initialized
+     * @see LcidService#lcidToLocale(int, Locale)
+     */
+    @Override
+    public Locale lcidToLocale(int lcid, Locale fallback) {
+        LcidConversionEvent event = new LcidConversionEvent();
+        event.begin();
+        State current = state;
+        Locale override = current.overrides().get(lcid);
+        if (override != null) {
+            event.commit(LcidServiceImpl.class, lcid, override, LcidConversionEvent.HIT);
+            return override;
+        }
+        Locale locale = current.locale() != null ? current.locale() : fallback;
+        event.commit(LcidServiceImpl.class, lcid, locale, LcidConversionEvent.FALLBACK);
+        return locale;
     }
 
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.eclipse.daanse.lcid.api.LcidService;
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.daanse.lcid.cfg.impl.LcidServiceImplTest.config;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeLcidServiceTest {
+
+    private static final Locale DE_DE = Locale.forLanguageTag("de-DE");
+    private static final Locale DE_AT = Locale.forLanguageTag("de-AT");
+    private static final Locale FR_FR = Locale.forLanguageTag("fr-FR");
+
+    /** Table service that knows German, French and German with phone book sort. */
+    private static final class TableLcidService implements LcidService {
+
+        int calls;
+
+        @Override
+        public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+            calls++;
+            if (value == null || value.isEmpty()) {
+                return Optional.empty();
+            }
+            return switch (value.get()) {
+            case 0x0407, 0x00010407 -> Optional.of(DE_DE);
+            case 0x040C -> Optional.of(FR_FR);
+            default -> Optional.empty();
+            };
+        }
+
+        @Override
+        public OptionalInt localeToLcid(Locale locale) {
+            return FR_FR.equals(locale) ? OptionalInt.of(0x040C) : OptionalInt.empty();
+        }
+    }
+
+    @Test
+    void testLayersAreCombined() {
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(new TableLcidService());
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0407=de-AT" })));
+
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+        assertEquals(FR_FR, service.lcidToLocaleOrNull(0x040C));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0411));
+        assertEquals(Optional.of(FR_FR), service.lcidToLocale(Optional.of(0x040C)));
+        assertEquals(Optional.of(Locale.US), service.lcidToLocale(Optional.empty()));
+    }
+
+    @Test
+    void testLookupDoesNotCallTableService() {
+        TableLcidService table = new TableLcidService();
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(table);
+        service.activate(config(Map.of()));
+        int callsAfterBuild = table.calls;
+
+        for (int i = 0; i < 100; i++) {
+            service.lcidToLocaleOrNull(0x040C);
+            service.lcidToLocale(Optional.of(0x0407));
+        }
+        assertEquals(callsAfterBuild, table.calls);
+        assertSame(service.lcidToLocale(Optional.of(0x0407)), service.lcidToLocale(Optional.of(0x0407)));
+    }
+
+    @Test
+    void testFullLcidsAreResolvedThroughTheLayers() {
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(new TableLcidService());
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0002040C=fr-CA" })));
+
+        assertEquals(DE_DE, service.lcidToLocaleOrNull(0x00010407));
+        assertEquals(Locale.CANADA_FRENCH, service.lcidToLocaleOrNull(0x0002040C));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x00050407));
+    }
+
+    @Test
+    void testTableIsRebuiltOnBindUnbindAndModify() {
+        TableLcidService table = new TableLcidService();
+        CompositeLcidService service = new CompositeLcidService();
+        service.activate(config(Map.of()));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0407));
+
+        service.bindTable(table);
+        assertEquals(DE_DE, service.lcidToLocaleOrNull(0x0407));
+
+        service.modified(config(Map.of(Constants.LCID_PROPERTY_LOCALECOUNTRY, "GB")));
+        assertEquals(DE_DE, service.lcidToLocaleOrNull(0x0407));
+        assertEquals(Locale.UK, service.lcidToLocaleOrNull(0x0411));
+
+        service.unbindTable(table);
+        assertEquals(Locale.UK, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testBulkConversion() {
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(new TableLcidService());
+        service.activate(config(Map.of()));
+
+        Locale[] out = new Locale[3];
+        service.lcidsToLocales(new int[] { 0x0407, 0x040C, 0x0411 }, out);
+        assertArrayEquals(new Locale[] { DE_DE, FR_FR, Locale.US }, out);
+    }
+
+    @Test
+    void testLocaleToLcid() {
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(new TableLcidService());
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0407=de-AT" })));
+
+        assertEquals(OptionalInt.of(0x0407), service.localeToLcid(DE_AT));
+        assertEquals(OptionalInt.of(0x040C), service.localeToLcid(FR_FR));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(Locale.JAPAN));
+    }
+
+    @Test
+    void testInactiveServiceResolvesNothing() {
+        CompositeLcidService service = new CompositeLcidService();
+        service.bindTable(new TableLcidService());
+        assertNull(service.lcidToLocaleOrNull(0x0407));
+
+        service.activate(config(Map.of()));
+        service.deactivate();
+        assertEquals(Locale.ROOT, service.lcidToLocale(0x0407, Locale.ROOT));
+        assertEquals(Optional.empty(), service.lcidToLocale(Optional.of(0x0407)));
+    }
+
+}
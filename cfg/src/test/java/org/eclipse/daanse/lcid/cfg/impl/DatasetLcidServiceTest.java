@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.daanse.lcid.api.LcidResolution;
+import org.eclipse.daanse.lcid.api.LcidService;
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetLcidServiceTest {
+
+    private static final Locale DE_DE = Locale.forLanguageTag("de-DE");
+    private static final Locale DE_AT = Locale.forLanguageTag("de-AT");
+    private static final Locale DE_CH = Locale.forLanguageTag("de-CH");
+    private static final Locale FR_FR = Locale.forLanguageTag("fr-FR");
+
+    /** Fallback service that knows German and French. */
+    private static final LcidService FALLBACK = new LcidService() {
+
+        @Override
+        public Optional<Locale> lcidToLocale(Optional<Integer> value) {
+            if (value == null || value.isEmpty()) {
+                return Optional.empty();
+            }
+            return switch (value.get()) {
+            case 0x0407 -> Optional.of(DE_DE);
+            case 0x040C -> Optional.of(FR_FR);
+            default -> Optional.empty();
+            };
+        }
+
+        @Override
+        public OptionalInt localeToLcid(Locale locale) {
+            return FR_FR.equals(locale) ? OptionalInt.of(0x040C) : OptionalInt.empty();
+        }
+    };
+
+    private Path directory;
+
+    private Path file;
+
+    private final DatasetLcidService service = new DatasetLcidService();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("lcid-dataset");
+        file = directory.resolve("lcid.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.deactivate();
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void testDatasetOverridesFallback() throws IOException {
+        write(0, new int[] { 0x0407, 0x1407 }, "de-AT", "de-LI");
+        service.bindFallback(FALLBACK);
+        service.activate(config(file, 0));
+
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+        assertEquals(Locale.forLanguageTag("de-LI"), service.lcidToLocaleOrNull(0x1407));
+        assertEquals(FR_FR, service.lcidToLocaleOrNull(0x040C));
+        assertNull(service.lcidToLocaleOrNull(0x0411));
+        assertEquals(Locale.ROOT, service.lcidToLocale(0x0411, Locale.ROOT));
+        assertEquals(Optional.of(DE_AT), service.lcidToLocale(Optional.of(0x0407)));
+        assertEquals(Optional.empty(), service.lcidToLocale(Optional.empty()));
+        assertEquals(OptionalInt.of(0x0407), service.localeToLcid(DE_AT));
+        assertEquals(OptionalInt.of(0x040C), service.localeToLcid(FR_FR));
+        assertEquals(new LcidResolution(0x0407, DE_AT, LcidResolution.Step.EXACT), service.resolveLcid(0x0407));
+    }
+
+    @Test
+    void testChangedFileIsSwappedIn() throws IOException {
+        write(0, new int[] { 0x0407 }, "de-AT");
+        service.activate(config(file, 0));
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+
+        assertFalse(service.reloadIfChanged());
+
+        write(1, new int[] { 0x0407, 0x0807 }, "de-DE", "de-CH");
+        assertTrue(service.reloadIfChanged());
+
+        assertEquals(DE_DE, service.lcidToLocaleOrNull(0x0407));
+        assertEquals(DE_CH, service.lcidToLocaleOrNull(0x0807));
+    }
+
+    @Test
+    void testMalformedFileKeepsTable() throws IOException {
+        write(0, new int[] { 0x0407 }, "de-AT");
+        service.activate(config(file, 0));
+
+        Files.write(file, new byte[] { 1, 2, 3 });
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        assertFalse(service.reloadIfChanged());
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+
+        Files.delete(file);
+        assertFalse(service.reloadIfChanged());
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testMissingFileAtActivation() {
+        service.bindFallback(FALLBACK);
+        service.activate(config(file, 0));
+
+        assertEquals(DE_DE, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testWatcherReloadsFile() throws Exception {
+        write(0, new int[] { 0x0407 }, "de-AT");
+        service.activate(config(file, 10));
+
+        write(1, new int[] { 0x0407 }, "de-CH");
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!DE_CH.equals(service.lcidToLocaleOrNull(0x0407)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(DE_CH, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testReadersSeeCompleteTables() throws Exception {
+        write(0, new int[] { 0x0407, 0x0807 }, "de-AT", "de-AT");
+        service.activate(config(file, 0));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                // a reload never exposes a table without the entries
+                Locale first = service.lcidToLocaleOrNull(0x0407);
+                Locale second = service.lcidToLocaleOrNull(0x0807);
+                if (first == null || second == null) {
+                    failure.set("missing entry");
+                }
+            }
+        });
+        reader.start();
+        for (int i = 1; i <= 20; i++) {
+            String tag = i % 2 == 0 ? "de-AT" : "de-CH";
+            write(i, new int[] { 0x0407, 0x0807 }, tag, tag);
+            service.reloadIfChanged();
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0807));
+    }
+
+    @Test
+    void testLocaleToLcidPrefersLowestLcid() throws IOException {
+        write(0, new int[] { 0x0407, 0x0807, 0x0C07 }, "de-CH", "de-CH", "de-AT");
+        service.activate(config(file, 0));
+
+        assertEquals(OptionalInt.of(0x0407), service.localeToLcid(DE_CH));
+        assertEquals(OptionalInt.of(0x0C07), service.localeToLcid(DE_AT));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(DE_DE));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(null));
+
+        write(1, new int[] { 0x0407 }, "de-AT");
+        service.reloadIfChanged();
+
+        assertEquals(OptionalInt.of(0x0407), service.localeToLcid(DE_AT));
+        assertEquals(OptionalInt.empty(), service.localeToLcid(DE_CH));
+    }
+
+    @Test
+    void testCompositeSeesSwappedDataset() throws IOException {
+        write(0, new int[] { 0x0407 }, "de-AT");
+        service.activate(config(file, 0));
+        CompositeLcidService composite = new CompositeLcidService();
+        composite.activate(LcidServiceImplTest.config(Map.of()));
+        composite.bindTable(service);
+        assertEquals(DE_AT, composite.lcidToLocaleOrNull(0x0407));
+
+        write(1, new int[] { 0x0407 }, "de-CH");
+        service.reloadIfChanged();
+        assertEquals(DE_CH, composite.lcidToLocaleOrNull(0x0407));
+
+        composite.unbindTable(service);
+        write(2, new int[] { 0x0407 }, "de-DE");
+        service.reloadIfChanged();
+        assertEquals(Locale.US, composite.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testConfigurationPublishesOnce() throws IOException {
+        AtomicInteger published = new AtomicInteger();
+        service.addListener(published::incrementAndGet);
+        write(0, new int[] { 0x0407 }, "de-AT");
+
+        service.activate(config(file, 0));
+        assertEquals(1, published.get());
+
+        service.modified(config(directory.resolve("missing.bin"), 0));
+        assertEquals(2, published.get());
+        assertNull(service.lcidToLocaleOrNull(0x0407));
+
+        service.modified(config(file, 0));
+        assertEquals(3, published.get());
+        assertEquals(DE_AT, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testResolutionOfEntryWithSortBits() throws IOException {
+        Locale phoneBook = Locale.forLanguageTag("de-DE-u-co-phonebk");
+        write(0, new int[] { 0x0407, 0x00010407 }, "de-DE", "de-DE-u-co-phonebk");
+        service.activate(config(file, 0));
+
+        assertEquals(new LcidResolution(0x0407, phoneBook, LcidResolution.Step.EXACT),
+                service.resolveLcid(0x00010407));
+    }
+
+    @Test
+    void testDeactivate() throws IOException {
+        write(0, new int[] { 0x0407 }, "de-AT");
+        service.bindFallback(FALLBACK);
+        service.activate(config(file, 0));
+
+        service.deactivate();
+
+        assertNull(service.lcidToLocaleOrNull(0x0407));
+    }
+
+    /**
+     * Replaces the dataset file by an atomic move, with a modification time that differs per version.
+     */
+    private void write(int version, int[] lcids, String... tags) throws IOException {
+        Path temporary = directory.resolve("lcid.tmp");
+        Files.write(temporary, LcidDataset.encode(lcids, tags));
+        Files.setLastModifiedTime(temporary, FileTime.fromMillis(1_700_000_000_000L + version * 1000L));
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static DatasetConfig config(Path file, long pollInterval) {
+        Map<String, Object> properties = Map.of(Constants.LCID_PROPERTY_DATASET_PATH, file.toString(),
+                Constants.LCID_PROPERTY_DATASET_POLL_INTERVAL, pollInterval);
+        return (DatasetConfig) Proxy.newProxyInstance(DatasetConfig.class.getClassLoader(),
+                new Class<?>[] { DatasetConfig.class }, (proxy, method, args) -> switch (method.getName()) {
+                case "annotationType" -> DatasetConfig.class;
+                case "toString" -> DatasetConfig.class.getName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> properties.getOrDefault(method.getName(), method.getDefaultValue());
+                });
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidDatasetTest {
+
+    @Test
+    void testRoundTrip() throws IOException {
+        byte[] data = LcidDataset.encode(new int[] { 0x0407, 0x0409, 0x00010407 },
+                new String[] { "de-AT", "en-GB", "de-AT" });
+
+        LcidOverrideTable table = LcidDataset.decode(ByteBuffer.wrap(data));
+
+        assertEquals(3, table.size());
+        assertEquals(Locale.forLanguageTag("de-AT"), table.get(0x0407));
+        assertEquals(Locale.forLanguageTag("en-GB"), table.get(0x0409));
+        // equal tags share one Locale
+        assertSame(table.get(0x0407), table.get(0x00010407));
+        assertNull(table.get(0x040C));
+    }
+
+    @Test
+    void testEmptyDataset() throws IOException {
+        byte[] data = LcidDataset.encode(new int[0], new String[0]);
+
+        assertSame(LcidOverrideTable.EMPTY, LcidDataset.decode(ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    void testRejectsWrongMagicAndVersion() {
+        byte[] data = LcidDataset.encode(new int[] { 0x0407 }, new String[] { "de-AT" });
+        byte[] wrongMagic = data.clone();
+        wrongMagic[0] = 'X';
+        byte[] wrongVersion = data.clone();
+        wrongVersion[5] = 2;
+
+        assertThrows(IOException.class, () -> LcidDataset.decode(ByteBuffer.wrap(wrongMagic)));
+        assertThrows(IOException.class, () -> LcidDataset.decode(ByteBuffer.wrap(wrongVersion)));
+    }
+
+    @Test
+    void testRejectsTruncatedData() {
+        byte[] data = LcidDataset.encode(new int[] { 0x0407, 0x0409 }, new String[] { "de-AT", "en-GB" });
+
+        for (int length = 0; length < data.length; length++) {
+            ByteBuffer truncated = ByteBuffer.wrap(data, 0, length);
+            assertThrows(IOException.class, () -> LcidDataset.decode(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidEntries() {
+        assertThrows(IOException.class, () -> LcidDataset
+                .decode(ByteBuffer.wrap(LcidDataset.encode(new int[] { 0x0409, 0x0407 }, new String[] { "a", "b" }))));
+        assertThrows(IOException.class, () -> LcidDataset
+                .decode(ByteBuffer.wrap(LcidDataset.encode(new int[] { 0x01000407 }, new String[] { "de" }))));
+        assertThrows(IOException.class, () -> LcidDataset
+                .decode(ByteBuffer.wrap(LcidDataset.encode(new int[] { 0x0407 }, new String[] { "not_a_tag!" }))));
+        assertThrows(IOException.class, () -> LcidDataset
+                .decode(ByteBuffer.wrap(LcidDataset.encode(new int[] { 0x0407 }, new String[] { "" }))));
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena, Stefan Bischof - initial
+ *
+ */
+package org.eclipse.daanse.lcid.cfg.impl;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.lcid.api.LcidConversionEvent;
+import org.eclipse.daanse.lcid.cfg.api.Constants;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LcidServiceImplTest {
+
+    private static final Locale EN_GB = Locale.forLanguageTag("en-GB");
+    private static final Locale DE_AT = Locale.forLanguageTag("de-AT");
+
+    @Test
+    void testConfiguredLocaleWithoutOverrides() {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of()));
+
+        assertEquals(Optional.of(Locale.US), service.lcidToLocale(Optional.of(0x0407)));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0407));
+    }
+
+    @Test
+    void testOverridesTakePrecedence() {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES,
+                new String[] { "0x0409=en-GB", "1031 = de-AT" })));
+
+        assertEquals(Optional.of(EN_GB), service.lcidToLocale(Optional.of(0x0409)));
+        assertEquals(EN_GB, service.lcidToLocaleOrNull(0x0409));
+        assertEquals(DE_AT, service.lcidToLocale(0x0407, Locale.ROOT));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x040C));
+        assertEquals(Optional.of(Locale.US), service.lcidToLocale(Optional.empty()));
+    }
+
+    @Test
+    void testMalformedOverridesAreIgnored() {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES,
+                new String[] { "0x0409", "abc=en-GB", "0x0407=not_a_tag", "0x040C=", "", "0x0410=it-CH" })));
+
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0409));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0407));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x040C));
+        assertEquals(Locale.forLanguageTag("it-CH"), service.lcidToLocaleOrNull(0x0410));
+    }
+
+    @Test
+    void testLastDuplicateOverrideWins() {
+        LcidOverrideTable table = LcidOverrideTable.compile(new String[] { "0x0409=en-GB", "1033=en-AU" });
+
+        assertEquals(1, table.size());
+        assertEquals(Locale.forLanguageTag("en-AU"), table.get(0x0409));
+        assertNull(table.get(0x0407));
+    }
+
+    @Test
+    void testOverrideOfNegativeLcid() {
+        LcidOverrideTable table = LcidOverrideTable.compile(new String[] { "0x0409=en-GB", "-1=de-AT" });
+
+        assertEquals(DE_AT, table.get(-1));
+        assertEquals(EN_GB, table.get(0x0409));
+    }
+
+    @Test
+    void testModifiedAppliesWithoutDeactivation() {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of()));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0409));
+
+        service.modified(config(Map.of(Constants.LCID_PROPERTY_LOCALECOUNTRY, "CA",
+                Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0409=en-GB" })));
+        assertEquals(EN_GB, service.lcidToLocaleOrNull(0x0409));
+        assertEquals(Locale.CANADA, service.lcidToLocaleOrNull(0x0407));
+
+        service.modified(config(Map.of()));
+        assertEquals(Locale.US, service.lcidToLocaleOrNull(0x0409));
+    }
+
+    @Test
+    void testDeactivateClearsOverrides() {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0409=en-GB" })));
+        service.deactivate(Map.of());
+
+        assertNull(service.lcidToLocaleOrNull(0x0409));
+        assertEquals(Locale.ROOT, service.lcidToLocale(0x0409, Locale.ROOT));
+        assertEquals(Optional.empty(), service.lcidToLocale(Optional.of(0x0409)));
+    }
+
+    @Test
+    void testConversionEventsReportConfiguredLocaleAsFallback() throws Exception {
+        LcidServiceImpl service = new LcidServiceImpl();
+        service.activate(config(Map.of(Constants.LCID_PROPERTY_OVERRIDES, new String[] { "0x0409=en-GB" })));
+        Path file = Files.createTempFile("lcid", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(LcidConversionEvent.NAME);
+            recording.start();
+
+            service.lcidToLocaleOrNull(0x0409);
+            service.lcidToLocaleOrNull(0x0407);
+            service.lcidToLocale(Optional.of(0x0407));
+            service.lcidToLocale(0x0407, Locale.ROOT);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(LcidConversionEvent.NAME)).toList();
+            assertEquals(4, events.size());
+
+            assertEquals(LcidServiceImpl.class.getName(), events.get(0).getClass("service").getName());
+            assertEquals(LcidConversionEvent.HIT, events.get(0).getString("outcome"));
+            assertEquals("en-GB", events.get(0).getString("languageTag"));
+            for (RecordedEvent event : events.subList(1, 4)) {
+                assertEquals(0x0407, event.getInt("lcid"));
+                assertEquals("en-US", event.getString("languageTag"));
+                assertEquals(LcidConversionEvent.FALLBACK, event.getString("outcome"));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Creates a configuration that answers the given attributes and the declared default values for all
+     * others.
+     */
+    static Config config(Map<String, Object> properties) {
+        return (Config) Proxy.newProxyInstance(Config.class.getClassLoader(), new Class<?>[] { Config.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                case "annotationType" -> Config.class;
+                case "toString" -> Config.class.getName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> properties.getOrDefault(method.getName(), method.getDefaultValue());
+                });
+    }
+
+}